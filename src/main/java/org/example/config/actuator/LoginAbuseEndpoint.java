@@ -0,0 +1,27 @@
+package org.example.config.actuator;
+
+import java.util.List;
+
+import org.example.dto.security.LoginOffenderDTO;
+import org.example.service.LoginAbuseTracker;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+@Component
+@Endpoint(id = "loginabuse")
+public class LoginAbuseEndpoint {
+
+    private final LoginAbuseTracker loginAbuseTracker;
+
+    @Autowired
+    public LoginAbuseEndpoint(LoginAbuseTracker loginAbuseTracker) {
+        this.loginAbuseTracker = loginAbuseTracker;
+    }
+
+    @ReadOperation
+    public List<LoginOffenderDTO> topOffenders() {
+        return loginAbuseTracker.topOffenders();
+    }
+}
@@ -0,0 +1,33 @@
+package org.example.config.actuator;
+
+import java.util.Map;
+
+import org.example.config.security.SecurityTiming;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+@Component
+@Endpoint(id = "securitytiming")
+public class SecurityTimingEndpoint {
+
+    private final SecurityTiming securityTiming;
+
+    @Autowired
+    public SecurityTimingEndpoint(SecurityTiming securityTiming) {
+        this.securityTiming = securityTiming;
+    }
+
+    @ReadOperation
+    public Map<String, Boolean> status() {
+        return Map.of("enabled", securityTiming.isEnabled());
+    }
+
+    @WriteOperation
+    public Map<String, Boolean> update(boolean enabled) {
+        securityTiming.setEnabled(enabled);
+        return status();
+    }
+}
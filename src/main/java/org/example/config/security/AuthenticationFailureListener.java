@@ -15,6 +15,6 @@ public class AuthenticationFailureListener implements
 
     @Override
     public void onApplicationEvent(AuthenticationFailureBadCredentialsEvent e) {
-        loginAttemptService.loginFailed();
+        loginAttemptService.loginFailed(e.getAuthentication().getName());
     }
 }
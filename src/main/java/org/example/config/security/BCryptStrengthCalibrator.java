@@ -0,0 +1,74 @@
+package org.example.config.security;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Finds the highest BCrypt strength whose hash time fits a latency budget on the current machine.
+ * One round of the cost factor doubles the work, so the time measured at a baseline strength is
+ * extrapolated and the pick is then checked with a real hash. The result is only a suggestion: hashes
+ * written by one node are verified by every other node, so the strength in use is a fleet-wide setting
+ * that should fit the slowest node.
+ */
+@Slf4j
+public final class BCryptStrengthCalibrator {
+
+    private static final int BASELINE_STRENGTH = 8;
+    private static final int SAMPLES = 5;
+    private static final String SAMPLE_PASSWORD = "calibration-password";
+
+    private BCryptStrengthCalibrator() {
+    }
+
+    /**
+     * Logs the strength that fits the budget on this node and warns when the configured fleet-wide
+     * strength exceeds it.
+     */
+    public static void report(int configuredStrength, long budgetMillis, int minStrength, int maxStrength) {
+        int fittingStrength = calibrate(budgetMillis, minStrength, maxStrength);
+        if (configuredStrength > fittingStrength) {
+            log.warn("Configured BCrypt strength {} exceeds strength {} that fits the {} ms budget on this node",
+                    configuredStrength, fittingStrength, budgetMillis);
+        }
+    }
+
+    static int calibrate(long budgetMillis, int minStrength, int maxStrength) {
+        long budgetNanos = TimeUnit.MILLISECONDS.toNanos(budgetMillis);
+        long baselineNanos = medianHashNanos(BASELINE_STRENGTH);
+        int strength = strengthFor(baselineNanos, BASELINE_STRENGTH, budgetNanos, minStrength, maxStrength);
+        while (strength > minStrength && medianHashNanos(strength) > budgetNanos) {
+            strength--;
+        }
+        log.info("BCrypt strength {} fits a {} ms budget on this node ({} us at strength {})", strength, budgetMillis,
+                TimeUnit.NANOSECONDS.toMicros(baselineNanos), BASELINE_STRENGTH);
+        return strength;
+    }
+
+    static int strengthFor(long baselineNanos, int baselineStrength, long budgetNanos, int minStrength,
+                           int maxStrength) {
+        int strength = baselineStrength;
+        long predictedNanos = Math.max(1, baselineNanos);
+        while (strength < maxStrength && predictedNanos * 2 <= budgetNanos) {
+            predictedNanos *= 2;
+            strength++;
+        }
+        return Math.max(minStrength, Math.min(maxStrength, strength));
+    }
+
+    private static long medianHashNanos(int strength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        encoder.encode(SAMPLE_PASSWORD);
+        long[] samples = new long[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        return samples[SAMPLES / 2];
+    }
+}
@@ -0,0 +1,69 @@
+package org.example.config.security;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+
+/**
+ * Caches verified tokens by their SHA-256 digest so a reused bearer token is parsed and its signature
+ * checked only once. Entries are bounded in number, by a maximum age and by the token's own expiry.
+ */
+public class CachingJwtDecoder implements JwtDecoder {
+
+    private final JwtDecoder delegate;
+
+    private final Cache<HashCode, Jwt> cache;
+
+    private final Clock clock;
+
+    public CachingJwtDecoder(JwtDecoder delegate, long maxSize, long ttlSeconds, MeterRegistry meterRegistry) {
+        this(delegate, maxSize, ttlSeconds, meterRegistry, Clock.systemUTC());
+    }
+
+    CachingJwtDecoder(JwtDecoder delegate, long maxSize, long ttlSeconds, MeterRegistry meterRegistry, Clock clock) {
+        this.delegate = delegate;
+        this.clock = clock;
+        cache = CacheBuilder.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                .recordStats()
+                .build();
+        GuavaCacheMetrics.monitor(meterRegistry, cache, "security.jwt.decoder");
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        HashCode key = Hashing.sha256().hashString(token, StandardCharsets.UTF_8);
+        Jwt cachedJwt = cache.getIfPresent(key);
+        if (cachedJwt != null) {
+            if (isUnexpired(cachedJwt)) {
+                return cachedJwt;
+            }
+            cache.invalidate(key);
+        }
+
+        Jwt jwt = delegate.decode(token);
+        if (isUnexpired(jwt)) {
+            cache.put(key, jwt);
+        }
+        return jwt;
+    }
+
+    private boolean isUnexpired(Jwt jwt) {
+        Instant expiresAt = jwt.getExpiresAt();
+        return expiresAt != null && clock.instant().isBefore(expiresAt);
+    }
+}
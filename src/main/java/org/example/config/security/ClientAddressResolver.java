@@ -0,0 +1,103 @@
+package org.example.config.security;
+
+import java.net.InetAddress;
+
+import org.example.utils.network.CidrTrie;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.google.common.net.InetAddresses;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Resolves the client address of a request. {@code X-Forwarded-For} is only honoured when the peer is a
+ * trusted proxy; the header is then walked from the right and the first hop that is not a trusted proxy wins.
+ * The resolved address is cached on the request so the work happens once per request. No proxy is trusted
+ * unless configured, so deployments behind a proxy must list its exact addresses.
+ */
+@Component
+public class ClientAddressResolver {
+
+    public static final String CLIENT_ADDRESS_ATTRIBUTE = ClientAddressResolver.class.getName() + ".CLIENT_ADDRESS";
+
+    private static final String FORWARDED_FOR_HEADER = "X-Forwarded-For";
+
+    private final CidrTrie<Boolean> trustedProxies = new CidrTrie<>();
+
+    @Autowired
+    public ClientAddressResolver(@Value("${security.ip-access.trusted-proxies:}") String[] trustedProxies) {
+        for (String trustedProxy : trustedProxies) {
+            if (!trustedProxy.isBlank()) {
+                this.trustedProxies.put(trustedProxy, Boolean.TRUE);
+            }
+        }
+    }
+
+    public String resolve(HttpServletRequest request) {
+        return clientAddress(request).text();
+    }
+
+    /**
+     * Returns the resolved address, or {@code null} when the peer address is not an IP literal.
+     */
+    public InetAddress resolveInetAddress(HttpServletRequest request) {
+        return clientAddress(request).address();
+    }
+
+    private ClientAddress clientAddress(HttpServletRequest request) {
+        Object cached = request.getAttribute(CLIENT_ADDRESS_ATTRIBUTE);
+        if (cached instanceof ClientAddress clientAddress) {
+            return clientAddress;
+        }
+        ClientAddress clientAddress = resolveClientAddress(request);
+        request.setAttribute(CLIENT_ADDRESS_ATTRIBUTE, clientAddress);
+        return clientAddress;
+    }
+
+    private ClientAddress resolveClientAddress(HttpServletRequest request) {
+        String remoteAddr = request.getRemoteAddr();
+        InetAddress peer = parse(remoteAddr, 0, remoteAddr.length());
+        if (peer == null) {
+            return new ClientAddress(null, remoteAddr);
+        }
+        String forwardedFor = request.getHeader(FORWARDED_FOR_HEADER);
+        InetAddress client = peer;
+        int end = forwardedFor == null ? -1 : forwardedFor.length();
+        while (end >= 0 && isTrustedProxy(client)) {
+            int start = forwardedFor.lastIndexOf(',', end - 1) + 1;
+            InetAddress hop = parse(forwardedFor, start, end);
+            if (hop == null) {
+                break;
+            }
+            client = hop;
+            end = start - 1;
+        }
+        return new ClientAddress(client, InetAddresses.toAddrString(client));
+    }
+
+    private boolean isTrustedProxy(InetAddress address) {
+        return trustedProxies.longestMatch(address) != null;
+    }
+
+    private static InetAddress parse(String value, int start, int end) {
+        while (start < end && Character.isWhitespace(value.charAt(start))) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(value.charAt(end - 1))) {
+            end--;
+        }
+        if (start == end) {
+            return null;
+        }
+        try {
+            return InetAddresses.forString(value.substring(start, end));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private record ClientAddress(InetAddress address, String text) {
+    }
+}
@@ -0,0 +1,74 @@
+package org.example.config.security;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.nio.charset.StandardCharsets;
+
+import org.example.utils.network.CidrTrie;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Resolves the client address once per request and applies the most specific matching CIDR rule.
+ * Without allow rules every address is let through unless a deny rule matches. Once any allow rule is
+ * configured the lists form an allowlist: addresses no rule matches are rejected, and deny rules carve
+ * exceptions out of wider allow ranges just as allow rules carve them out of deny ranges.
+ */
+public class IpAccessFilter extends OncePerRequestFilter {
+
+    private static final byte[] DENIED_RESPONSE_BODY = "{\"error\":\"Access from this address is denied\"}"
+            .getBytes(StandardCharsets.UTF_8);
+
+    private final ClientAddressResolver clientAddressResolver;
+
+    private final CidrTrie<Boolean> rules = new CidrTrie<>();
+
+    private final boolean allowUnmatched;
+
+    public IpAccessFilter(ClientAddressResolver clientAddressResolver, String[] allow, String[] deny) {
+        this.clientAddressResolver = clientAddressResolver;
+        for (String range : deny) {
+            if (!range.isBlank()) {
+                rules.put(range, Boolean.FALSE);
+            }
+        }
+        boolean allowRules = false;
+        for (String range : allow) {
+            if (!range.isBlank()) {
+                rules.put(range, Boolean.TRUE);
+                allowRules = true;
+            }
+        }
+        this.allowUnmatched = !allowRules;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (!isAllowed(clientAddressResolver.resolveInetAddress(request))) {
+            response.setStatus(HttpStatus.FORBIDDEN.value());
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setContentLength(DENIED_RESPONSE_BODY.length);
+            response.getOutputStream().write(DENIED_RESPONSE_BODY);
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private boolean isAllowed(InetAddress clientAddress) {
+        if (rules.isEmpty()) {
+            return true;
+        }
+        if (clientAddress == null) {
+            return allowUnmatched;
+        }
+        Boolean allowed = rules.longestMatch(clientAddress);
+        return allowed == null ? allowUnmatched : allowed;
+    }
+}
@@ -0,0 +1,222 @@
+package org.example.config.security;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.text.ParseException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.oauth2.jose.jws.JwsAlgorithm;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jose.jws.SignatureAlgorithm;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+import org.springframework.stereotype.Component;
+
+import com.google.common.hash.Hashing;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.KeyUse;
+import com.nimbusds.jose.jwk.gen.ECKeyGenerator;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jose.jwk.source.ImmutableSecret;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Owns the keys used to sign and verify tokens. {@code HS512} keeps the shared secret from {@code jwt.key}.
+ * {@code RS256} and {@code ES256} sign with the newest key of a key set, stamp its id into the header, and
+ * keep older keys for verification until every token they signed has expired, counted from the moment a key
+ * stopped signing. The key set is read from
+ * {@code security.jwt.signing.jwk-set-location}, which every node must share; rotation re-reads the file.
+ * Generated keys live only in this process, so every restart invalidates outstanding tokens and other nodes
+ * reject them; they must be enabled explicitly with {@code security.jwt.signing.generate-keys} for single-node
+ * setups. The key list, the selection set and the pre-serialized public JWKS are swapped together, so a
+ * header never names a key the encoder cannot find.
+ */
+@Component
+@Slf4j
+public class JwtKeyManager {
+
+    private final JwsAlgorithm algorithm;
+
+    private final byte[] secret;
+
+    private final String jwkSetLocation;
+
+    private final Duration keyRetention;
+
+    private final Clock clock;
+
+    private final Map<String, Instant> retiredAt = new ConcurrentHashMap<>();
+
+    private volatile SigningKeys signingKeys;
+
+    @Autowired
+    public JwtKeyManager(@Value("${jwt.key}") String jwtKey,
+                         @Value("${security.jwt.signing.algorithm:HS512}") String algorithm,
+                         @Value("${security.jwt.signing.jwk-set-location:}") String jwkSetLocation,
+                         @Value("${security.jwt.signing.generate-keys:false}") boolean generateKeys,
+                         @Value("${security.jwt.refresh-token-ttl-seconds:604800}") long maxTokenTtlSeconds) {
+        this(jwtKey, algorithm, jwkSetLocation, generateKeys, maxTokenTtlSeconds, Clock.systemUTC());
+    }
+
+    JwtKeyManager(String jwtKey, String algorithm, String jwkSetLocation, boolean generateKeys,
+                  long maxTokenTtlSeconds, Clock clock) {
+        this.clock = clock;
+        this.algorithm = parseAlgorithm(algorithm);
+        this.secret = jwtKey.getBytes();
+        this.jwkSetLocation = jwkSetLocation;
+        this.keyRetention = Duration.ofSeconds(maxTokenTtlSeconds);
+        this.signingKeys = SigningKeys.of(List.of());
+        if (isAsymmetric()) {
+            if (jwkSetLocation.isBlank() && !generateKeys) {
+                throw new IllegalStateException("security.jwt.signing.jwk-set-location must point to a key set "
+                        + "shared by every node for " + algorithm + " signing, or set "
+                        + "security.jwt.signing.generate-keys for a single node");
+            }
+            rotate();
+        }
+    }
+
+    public JwsHeader jwsHeader() {
+        if (!isAsymmetric()) {
+            return JwsHeader.with((MacAlgorithm) algorithm).build();
+        }
+        return JwsHeader.with((SignatureAlgorithm) algorithm).keyId(signingKeys.keys().get(0).getKeyID()).build();
+    }
+
+    public JwtEncoder jwtEncoder() {
+        if (!isAsymmetric()) {
+            return new NimbusJwtEncoder(new ImmutableSecret<>(secret));
+        }
+        return new NimbusJwtEncoder(jwkSource());
+    }
+
+    public JwtDecoder jwtDecoder() {
+        if (!isAsymmetric()) {
+            SecretKeySpec originalKey = new SecretKeySpec(secret, 0, secret.length, "RSA");
+            return NimbusJwtDecoder.withSecretKey(originalKey).macAlgorithm((MacAlgorithm) algorithm).build();
+        }
+        DefaultJWTProcessor<SecurityContext> jwtProcessor = new DefaultJWTProcessor<>();
+        jwtProcessor.setJWSKeySelector(new JWSVerificationKeySelector<>(JWSAlgorithm.parse(algorithm.getName()),
+                jwkSource()));
+        // expiry and not-before are checked by the Spring validators, as for the HMAC decoder
+        jwtProcessor.setJWTClaimsSetVerifier((claims, context) -> {
+        });
+        return new NimbusJwtDecoder(jwtProcessor);
+    }
+
+    public PublishedJwkSet getPublishedJwkSet() {
+        return signingKeys.published();
+    }
+
+    @Scheduled(fixedRateString = "${security.jwt.signing.rotation-interval-millis:86400000}",
+            initialDelayString = "${security.jwt.signing.rotation-interval-millis:86400000}")
+    public synchronized void rotate() {
+        if (!isAsymmetric()) {
+            return;
+        }
+        List<JWK> rotated = jwkSetLocation.isBlank() ? withGeneratedKey() : loadKeys();
+        signingKeys = SigningKeys.of(rotated);
+        log.info("JWT signing key {} is active, {} keys published", rotated.get(0).getKeyID(), rotated.size());
+    }
+
+    /**
+     * Puts a fresh key in front and retires the active one. A retired key can still have signed a token in its
+     * last moment as the active key, so it is kept for the longest token lifetime after it retired.
+     */
+    private List<JWK> withGeneratedKey() {
+        Instant now = clock.instant();
+        Instant retainAfter = now.minus(keyRetention);
+        List<JWK> rotated = new ArrayList<>();
+        rotated.add(generateKey());
+        for (JWK key : signingKeys.keys()) {
+            Instant retired = retiredAt.computeIfAbsent(key.getKeyID(), keyId -> now);
+            if (retired.isAfter(retainAfter)) {
+                rotated.add(key);
+            } else {
+                retiredAt.remove(key.getKeyID());
+            }
+        }
+        return List.copyOf(rotated);
+    }
+
+    private List<JWK> loadKeys() {
+        try {
+            List<JWK> loaded = JWKSet.load(new File(jwkSetLocation)).getKeys();
+            if (loaded.isEmpty() || !loaded.get(0).isPrivate()) {
+                throw new IllegalStateException("The first key in " + jwkSetLocation + " must be a private key");
+            }
+            return List.copyOf(loaded);
+        } catch (IOException | ParseException e) {
+            throw new IllegalStateException("Could not load JWK set from " + jwkSetLocation, e);
+        }
+    }
+
+    private JWK generateKey() {
+        try {
+            String keyId = UUID.randomUUID().toString();
+            if (algorithm == SignatureAlgorithm.ES256) {
+                return new ECKeyGenerator(Curve.P_256).keyID(keyId).keyUse(KeyUse.SIGNATURE)
+                        .algorithm(JWSAlgorithm.ES256).generate();
+            }
+            return new RSAKeyGenerator(RSAKeyGenerator.MIN_KEY_SIZE_BITS).keyID(keyId).keyUse(KeyUse.SIGNATURE)
+                    .algorithm(JWSAlgorithm.RS256).generate();
+        } catch (JOSEException e) {
+            throw new IllegalStateException("Could not generate JWT signing key", e);
+        }
+    }
+
+    private JWKSource<SecurityContext> jwkSource() {
+        return (selector, context) -> selector.select(signingKeys.jwkSet());
+    }
+
+    private boolean isAsymmetric() {
+        return algorithm instanceof SignatureAlgorithm;
+    }
+
+    private static JwsAlgorithm parseAlgorithm(String algorithm) {
+        return switch (algorithm) {
+            case "HS512" -> MacAlgorithm.HS512;
+            case "RS256" -> SignatureAlgorithm.RS256;
+            case "ES256" -> SignatureAlgorithm.ES256;
+            default -> throw new IllegalArgumentException("Unsupported JWT signing algorithm " + algorithm);
+        };
+    }
+
+    public record PublishedJwkSet(byte[] body, String etag) {
+    }
+
+    private record SigningKeys(List<JWK> keys, JWKSet jwkSet, PublishedJwkSet published) {
+
+        static SigningKeys of(List<JWK> keys) {
+            JWKSet jwkSet = new JWKSet(keys);
+            byte[] body = jwkSet.toPublicJWKSet().toString().getBytes(StandardCharsets.UTF_8);
+            String etag = "\"" + Hashing.sha256().hashBytes(body).toString().substring(0, 32) + "\"";
+            return new SigningKeys(keys, jwkSet, new PublishedJwkSet(body, etag));
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package org.example.config.security;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.example.service.LoginAttemptService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Rejects credential-bearing requests from blocked clients before any authentication filter runs,
+ * so a brute-force flood never reaches the user repository or the password encoder.
+ */
+public class LoginAttemptFilter extends OncePerRequestFilter {
+
+    private static final String BASIC_PREFIX = "Basic ";
+    private static final String FORM_LOGIN_PATH = "/login";
+
+    private final LoginAttemptService loginAttemptService;
+
+    private final byte[] blockedResponseBody;
+
+    public LoginAttemptFilter(LoginAttemptService loginAttemptService) {
+        this.loginAttemptService = loginAttemptService;
+        this.blockedResponseBody = String.format(
+                        "{\"error\":\"Blocked for %d minutes after %d unsuccessful attempts\"}",
+                        loginAttemptService.getWindowMinutes(), loginAttemptService.getMaxAttempts())
+                .getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (isAuthenticationAttempt(request) && loginAttemptService.isBlocked()) {
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setContentLength(blockedResponseBody.length);
+            response.getOutputStream().write(blockedResponseBody);
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private boolean isAuthenticationAttempt(HttpServletRequest request) {
+        String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (authorization != null && authorization.regionMatches(true, 0, BASIC_PREFIX, 0, BASIC_PREFIX.length())) {
+            return true;
+        }
+        return HttpMethod.POST.matches(request.getMethod()) && FORM_LOGIN_PATH.equals(request.getServletPath());
+    }
+}
@@ -0,0 +1,48 @@
+package org.example.config.security;
+
+import org.example.service.TokenService;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+/**
+ * Rejects revoked tokens and refresh tokens presented as bearer tokens. The check runs after the
+ * delegate, so a cached decode result never hides a later revocation.
+ */
+public class RevocationCheckingJwtDecoder implements JwtDecoder {
+
+    private final JwtDecoder delegate;
+
+    private final TokenRevocationList tokenRevocationList;
+
+    public RevocationCheckingJwtDecoder(JwtDecoder delegate, TokenRevocationList tokenRevocationList) {
+        this.delegate = delegate;
+        this.tokenRevocationList = tokenRevocationList;
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        Jwt jwt = delegate.decode(token);
+        if (TokenService.REFRESH_TOKEN_TYPE.equals(jwt.getClaimAsString(TokenService.TOKEN_TYPE_CLAIM))) {
+            throw new BadJwtException("Refresh tokens cannot be used as bearer tokens");
+        }
+        checkNotRevoked(jwt);
+        return jwt;
+    }
+
+    public Jwt decodeRefreshToken(String token) throws JwtException {
+        Jwt jwt = delegate.decode(token);
+        if (!TokenService.REFRESH_TOKEN_TYPE.equals(jwt.getClaimAsString(TokenService.TOKEN_TYPE_CLAIM))) {
+            throw new BadJwtException("Not a refresh token");
+        }
+        checkNotRevoked(jwt);
+        return jwt;
+    }
+
+    private void checkNotRevoked(Jwt jwt) {
+        if (tokenRevocationList.isRevoked(jwt.getId())) {
+            throw new BadJwtException("Token has been revoked");
+        }
+    }
+}
@@ -1,55 +1,147 @@
 package org.example.config.security;
 
-import javax.crypto.spec.SecretKeySpec;
+import java.util.Map;
 
 import org.example.exception.security.AccessDeniedHandlerImpl;
 import org.example.exception.security.AuthenticationFailureHandlerImpl;
+import org.example.service.LoginAttemptService;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
 import org.springframework.http.HttpMethod;
+import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
+import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
-import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
-import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.jwt.JwtEncoder;
-import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
-import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.access.AccessDeniedHandler;
 import org.springframework.security.web.authentication.AuthenticationFailureHandler;
+import org.springframework.security.web.context.SecurityContextHolderFilter;
+import org.springframework.web.filter.CorsFilter;
 
-import com.nimbusds.jose.jwk.source.ImmutableSecret;
+import io.micrometer.core.instrument.MeterRegistry;
 
 @Configuration
 @EnableWebSecurity
 @EnableMethodSecurity(securedEnabled = true)
 public class SecurityConfig {
 
-    @Value("${jwt.key}")
-    private String jwtKey;
+    private static final String BCRYPT_ENCODER_ID = "bcrypt";
+    private static final String ROLE_ADMIN = "ROLE_ADMIN";
+    private static final String[] PUBLIC_ACTUATOR_ENDPOINTS = {
+            "/actuator/health/**", "/actuator/info", "/actuator/prometheus"
+    };
 
+    @Value("${security.jwt-cache.max-size:10000}")
+    private long jwtCacheMaxSize;
+
+    @Value("${security.jwt-cache.ttl-seconds:600}")
+    private long jwtCacheTtlSeconds;
+
+    @Value("${security.password.bcrypt.strength:10}")
+    private int bcryptStrength;
+
+    @Value("${security.password.bcrypt.calibrate:false}")
+    private boolean bcryptCalibrate;
+
+    @Value("${security.password.bcrypt.latency-budget-millis:100}")
+    private long bcryptLatencyBudgetMillis;
+
+    @Value("${security.password.bcrypt.min-strength:10}")
+    private int bcryptMinStrength;
+
+    @Value("${security.password.bcrypt.max-strength:14}")
+    private int bcryptMaxStrength;
+
+    @Value("${security.ip-access.allow:}")
+    private String[] ipAllowList;
+
+    @Value("${security.ip-access.deny:}")
+    private String[] ipDenyList;
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
-        return http.cors(Customizer.withDefaults())
+    @Order(1)
+    public SecurityFilterChain infrastructureSecurityFilterChain(HttpSecurity http,
+                                                                 ClientAddressResolver clientAddressResolver)
+            throws Exception {
+        return http.securityMatcher("/actuator/**", "/swagger-ui/**", "/swagger-ui.html", "/v3/api-docs/**",
+                        "/.well-known/**")
                 .csrf(AbstractHttpConfigurer::disable)
-                .authorizeHttpRequests((authorize) -> authorize
-                        .requestMatchers("/swagger-ui/**").permitAll()
-                        .requestMatchers("/v3/api-docs/**").permitAll()
-                        .requestMatchers("/api/login").permitAll()
+                .requestCache(AbstractHttpConfigurer::disable)
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .addFilterBefore(ipAccessFilter(clientAddressResolver), SecurityContextHolderFilter.class)
+                .authorizeHttpRequests(authorize -> authorize
+                        .requestMatchers(PUBLIC_ACTUATOR_ENDPOINTS).permitAll()
+                        .requestMatchers("/actuator/**").hasAuthority(ROLE_ADMIN)
+                        .anyRequest().permitAll()
+                )
+                .oauth2ResourceServer(oauth2 -> oauth2.jwt(Customizer.withDefaults()))
+                .httpBasic(Customizer.withDefaults())
+                .exceptionHandling(customizer -> customizer.accessDeniedHandler(accessDeniedHandler()))
+                .build();
+    }
+
+    @Bean
+    @Order(2)
+    public SecurityFilterChain loginSecurityFilterChain(HttpSecurity http, LoginAttemptService loginAttemptService,
+                                                        ClientAddressResolver clientAddressResolver)
+            throws Exception {
+        return http.securityMatcher("/api/login")
+                .cors(Customizer.withDefaults())
+                .csrf(AbstractHttpConfigurer::disable)
+                .requestCache(AbstractHttpConfigurer::disable)
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .addFilterAfter(ipAccessFilter(clientAddressResolver), CorsFilter.class)
+                .addFilterAfter(new LoginAttemptFilter(loginAttemptService), IpAccessFilter.class)
+                .authorizeHttpRequests(authorize -> authorize.anyRequest().permitAll())
+                .httpBasic(Customizer.withDefaults())
+                .build();
+    }
+
+    @Bean
+    @Order(3)
+    public SecurityFilterChain apiSecurityFilterChain(HttpSecurity http, LoginAttemptService loginAttemptService,
+                                                      ClientAddressResolver clientAddressResolver)
+            throws Exception {
+        return http.securityMatcher("/api/**")
+                .cors(Customizer.withDefaults())
+                .csrf(AbstractHttpConfigurer::disable)
+                .requestCache(AbstractHttpConfigurer::disable)
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .addFilterAfter(ipAccessFilter(clientAddressResolver), CorsFilter.class)
+                .addFilterAfter(new LoginAttemptFilter(loginAttemptService), IpAccessFilter.class)
+                .authorizeHttpRequests(authorize -> authorize
                         .requestMatchers(HttpMethod.POST, "/api/trainees").permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/trainers").permitAll()
-                        .requestMatchers("/actuator/**").permitAll()
+                        .requestMatchers(HttpMethod.POST, "/api/token/refresh").permitAll()
                         .anyRequest().authenticated()
                 )
                 .oauth2ResourceServer(oauth2 -> oauth2.jwt(Customizer.withDefaults()))
                 .httpBasic(Customizer.withDefaults())
+                .exceptionHandling(customizer -> customizer.accessDeniedHandler(accessDeniedHandler()))
+                .build();
+    }
+
+    @Bean
+    @Order(4)
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, LoginAttemptService loginAttemptService,
+                                                   ClientAddressResolver clientAddressResolver) throws Exception {
+        return http.cors(Customizer.withDefaults())
+                .csrf(AbstractHttpConfigurer::disable)
+                .addFilterAfter(ipAccessFilter(clientAddressResolver), CorsFilter.class)
+                .addFilterAfter(new LoginAttemptFilter(loginAttemptService), IpAccessFilter.class)
+                .authorizeHttpRequests(authorize -> authorize.anyRequest().authenticated())
+                .httpBasic(Customizer.withDefaults())
                 .formLogin(customizer -> {
                     customizer.failureHandler(authenticationFailureHandler());
                     customizer.defaultSuccessUrl("/home");
@@ -60,20 +152,51 @@ public class SecurityConfig {
     }
 
     @Bean
-    public JwtEncoder jwtEncoder() {
-        return new NimbusJwtEncoder(new ImmutableSecret<>(jwtKey.getBytes()));
+    public JwtEncoder jwtEncoder(JwtKeyManager jwtKeyManager) {
+        return jwtKeyManager.jwtEncoder();
     }
 
     @Bean
-    public JwtDecoder jwtDecoder() {
-        byte[] bytes = jwtKey.getBytes();
-        SecretKeySpec originalKey = new SecretKeySpec(bytes, 0, bytes.length, "RSA");
-        return NimbusJwtDecoder.withSecretKey(originalKey).macAlgorithm(MacAlgorithm.HS512).build();
+    public RevocationCheckingJwtDecoder jwtDecoder(JwtKeyManager jwtKeyManager, MeterRegistry meterRegistry,
+                                                   TokenRevocationList tokenRevocationList) {
+        return new RevocationCheckingJwtDecoder(
+                new CachingJwtDecoder(jwtKeyManager.jwtDecoder(), jwtCacheMaxSize, jwtCacheTtlSeconds, meterRegistry),
+                tokenRevocationList);
     }
 
+    /**
+     * New hashes are written as {@code {bcrypt}} with the configured strength. Legacy hashes without an id
+     * still match, and {@link PasswordEncoder#upgradeEncoding} reports them, and any weaker hash, for
+     * re-encoding on the next successful login. Every node verifies hashes written by the others, so the
+     * strength must be the same across the fleet; calibration only reports what fits this node.
+     */
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        if (bcryptCalibrate) {
+            BCryptStrengthCalibrator.report(bcryptStrength, bcryptLatencyBudgetMillis, bcryptMinStrength,
+                    bcryptMaxStrength);
+        }
+        BCryptPasswordEncoder bcryptPasswordEncoder = new BCryptPasswordEncoder(bcryptStrength);
+        DelegatingPasswordEncoder passwordEncoder =
+                new DelegatingPasswordEncoder(BCRYPT_ENCODER_ID, Map.of(BCRYPT_ENCODER_ID, bcryptPasswordEncoder));
+        passwordEncoder.setDefaultPasswordEncoderForMatches(bcryptPasswordEncoder);
+        return passwordEncoder;
+    }
+
+    @Bean
+    public AuthenticationProvider authenticationProvider(UserDetailsService userDetailsService,
+                                                         UserDetailsPasswordService userDetailsPasswordService,
+                                                         VerifiedCredentialCache verifiedCredentialCache) {
+        CachingDaoAuthenticationProvider authenticationProvider =
+                new CachingDaoAuthenticationProvider(verifiedCredentialCache);
+        authenticationProvider.setUserDetailsService(userDetailsService);
+        authenticationProvider.setUserDetailsPasswordService(userDetailsPasswordService);
+        authenticationProvider.setPasswordEncoder(passwordEncoder());
+        return authenticationProvider;
+    }
+
+    private IpAccessFilter ipAccessFilter(ClientAddressResolver clientAddressResolver) {
+        return new IpAccessFilter(clientAddressResolver, ipAllowList, ipDenyList);
     }
 
     @Bean
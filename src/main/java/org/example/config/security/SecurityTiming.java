@@ -0,0 +1,49 @@
+package org.example.config.security;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Runtime switch and timer factory for security layer instrumentation. While disabled the timed
+ * wrappers fall straight through to their delegates.
+ */
+@Component
+public class SecurityTiming {
+
+    public static final String OUTCOME_PROCEEDED = "proceeded";
+    public static final String OUTCOME_RESPONDED = "responded";
+    public static final String OUTCOME_SUCCESS = "success";
+    public static final String OUTCOME_FAILURE = "failure";
+    public static final String OUTCOME_ERROR = "error";
+
+    private final MeterRegistry meterRegistry;
+
+    private volatile boolean enabled;
+
+    @Autowired
+    public SecurityTiming(@Value("${security.timing.enabled:false}") boolean enabled,
+                          MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    Timer timer(String name, String componentTag, String component, String outcome) {
+        return Timer.builder(name)
+                .tag(componentTag, component)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
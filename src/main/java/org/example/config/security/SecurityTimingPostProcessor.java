@@ -0,0 +1,46 @@
+package org.example.config.security;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.web.FilterChainProxy;
+import org.springframework.security.web.ObservationFilterChainDecorator;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.observation.ObservationRegistry;
+
+/**
+ * Installs {@link TimingFilterChainDecorator} on the security filter chain proxy and wraps
+ * authentication provider beans in {@link TimedAuthenticationProvider}. Dependencies are resolved
+ * lazily so the post-processor does not force early initialization of the beans it needs.
+ */
+@Component
+public class SecurityTimingPostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<SecurityTiming> securityTiming;
+
+    private final ObjectProvider<ObservationRegistry> observationRegistry;
+
+    public SecurityTimingPostProcessor(ObjectProvider<SecurityTiming> securityTiming,
+                                       ObjectProvider<ObservationRegistry> observationRegistry) {
+        this.securityTiming = securityTiming;
+        this.observationRegistry = observationRegistry;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+        if (bean instanceof FilterChainProxy filterChainProxy) {
+            ObservationRegistry registry = observationRegistry.getIfUnique(() -> ObservationRegistry.NOOP);
+            FilterChainProxy.FilterChainDecorator delegate = registry.isNoop()
+                    ? new FilterChainProxy.VirtualFilterChainDecorator()
+                    : new ObservationFilterChainDecorator(registry);
+            filterChainProxy.setFilterChainDecorator(
+                    new TimingFilterChainDecorator(delegate, securityTiming.getObject()));
+        } else if (bean instanceof AuthenticationProvider authenticationProvider
+                && !(bean instanceof TimedAuthenticationProvider)) {
+            return new TimedAuthenticationProvider(authenticationProvider, securityTiming.getObject());
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,53 @@
+package org.example.config.security;
+
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Times {@link AuthenticationProvider#authenticate} calls, which covers the user lookup and
+ * password check for Basic and form logins.
+ */
+public class TimedAuthenticationProvider implements AuthenticationProvider {
+
+    private static final String AUTHENTICATION_TIMER = "security.authentication";
+
+    private final AuthenticationProvider delegate;
+
+    private final SecurityTiming securityTiming;
+
+    private final Timer success;
+
+    private final Timer failure;
+
+    public TimedAuthenticationProvider(AuthenticationProvider delegate, SecurityTiming securityTiming) {
+        String name = delegate.getClass().getSimpleName();
+        this.delegate = delegate;
+        this.securityTiming = securityTiming;
+        this.success = securityTiming.timer(AUTHENTICATION_TIMER, "provider", name, SecurityTiming.OUTCOME_SUCCESS);
+        this.failure = securityTiming.timer(AUTHENTICATION_TIMER, "provider", name, SecurityTiming.OUTCOME_FAILURE);
+    }
+
+    @Override
+    public Authentication authenticate(Authentication authentication) throws AuthenticationException {
+        if (!securityTiming.isEnabled()) {
+            return delegate.authenticate(authentication);
+        }
+        Timer.Sample sample = Timer.start();
+        try {
+            Authentication result = delegate.authenticate(authentication);
+            sample.stop(success);
+            return result;
+        } catch (AuthenticationException e) {
+            sample.stop(failure);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean supports(Class<?> authentication) {
+        return delegate.supports(authentication);
+    }
+}
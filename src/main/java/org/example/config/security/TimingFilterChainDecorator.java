@@ -0,0 +1,121 @@
+package org.example.config.security;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.security.web.FilterChainProxy;
+
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+
+/**
+ * Times each security filter on its own: the clock stops when the filter hands the request on, so
+ * downstream filters are not counted. Filters that answer the request themselves are tagged
+ * {@code responded}.
+ */
+public class TimingFilterChainDecorator implements FilterChainProxy.FilterChainDecorator {
+
+    private static final String FILTER_TIMER = "security.filter";
+
+    private final FilterChainProxy.FilterChainDecorator delegate;
+
+    private final SecurityTiming securityTiming;
+
+    private final Map<Filter, TimedFilter> timedFilters = new ConcurrentHashMap<>();
+
+    private final Map<List<Filter>, List<Filter>> timedChains = new ConcurrentHashMap<>();
+
+    public TimingFilterChainDecorator(FilterChainProxy.FilterChainDecorator delegate, SecurityTiming securityTiming) {
+        this.delegate = delegate;
+        this.securityTiming = securityTiming;
+    }
+
+    @Override
+    public FilterChain decorate(FilterChain original) {
+        return delegate.decorate(original);
+    }
+
+    @Override
+    public FilterChain decorate(FilterChain original, List<Filter> filters) {
+        if (!securityTiming.isEnabled() || filters.isEmpty()) {
+            return delegate.decorate(original, filters);
+        }
+        List<Filter> timed = timedChains.computeIfAbsent(filters, chain -> chain.stream()
+                .map(filter -> (Filter) timedFilters.computeIfAbsent(filter, TimedFilter::new))
+                .toList());
+        return delegate.decorate(original, timed);
+    }
+
+    private final class TimedFilter implements Filter {
+
+        private final Filter filter;
+
+        private final Timer proceeded;
+
+        private final Timer responded;
+
+        private final Timer error;
+
+        private TimedFilter(Filter filter) {
+            String name = filter.getClass().getSimpleName();
+            this.filter = filter;
+            this.proceeded = securityTiming.timer(FILTER_TIMER, "filter", name, SecurityTiming.OUTCOME_PROCEEDED);
+            this.responded = securityTiming.timer(FILTER_TIMER, "filter", name, SecurityTiming.OUTCOME_RESPONDED);
+            this.error = securityTiming.timer(FILTER_TIMER, "filter", name, SecurityTiming.OUTCOME_ERROR);
+        }
+
+        @Override
+        public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+                throws IOException, ServletException {
+            HandOff handOff = new HandOff(chain, proceeded, System.nanoTime());
+            try {
+                filter.doFilter(request, response, handOff);
+            } catch (IOException | ServletException | RuntimeException e) {
+                if (!handOff.passed) {
+                    handOff.record(error);
+                }
+                throw e;
+            }
+            if (!handOff.passed) {
+                handOff.record(responded);
+            }
+        }
+    }
+
+    private static final class HandOff implements FilterChain {
+
+        private final FilterChain chain;
+
+        private final Timer proceeded;
+
+        private final long startNanos;
+
+        private boolean passed;
+
+        private HandOff(FilterChain chain, Timer proceeded, long startNanos) {
+            this.chain = chain;
+            this.proceeded = proceeded;
+            this.startNanos = startNanos;
+        }
+
+        @Override
+        public void doFilter(ServletRequest request, ServletResponse response) throws IOException, ServletException {
+            if (!passed) {
+                passed = true;
+                record(proceeded);
+            }
+            chain.doFilter(request, response);
+        }
+
+        private void record(Timer timer) {
+            timer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+}
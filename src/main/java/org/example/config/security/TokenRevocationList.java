@@ -0,0 +1,110 @@
+package org.example.config.security;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.example.model.RevokedToken;
+import org.example.repository.RevokedTokenRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-memory view of revoked token ids. A Bloom filter answers the common "not revoked" case
+ * without touching the exact set; the exact set removes the filter's false positives. Other nodes'
+ * revocations are pulled from the database on a schedule, never on the request path.
+ */
+@Component
+@Slf4j
+public class TokenRevocationList {
+
+    private static final Duration SYNC_OVERLAP = Duration.ofSeconds(5);
+
+    private final ConcurrentMap<String, Instant> revokedTokens = new ConcurrentHashMap<>();
+
+    private final RevokedTokenRepository revokedTokenRepository;
+
+    private final int expectedInsertions;
+
+    private final double falsePositiveProbability;
+
+    private volatile BloomFilter<CharSequence> bloomFilter;
+
+    private volatile Instant lastSynchronized = Instant.EPOCH;
+
+    @Autowired
+    public TokenRevocationList(RevokedTokenRepository revokedTokenRepository,
+                               @Value("${security.token-revocation.expected-insertions:100000}") int expectedInsertions,
+                               @Value("${security.token-revocation.false-positive-probability:0.001}")
+                               double falsePositiveProbability) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveProbability = falsePositiveProbability;
+        this.bloomFilter = newBloomFilter();
+    }
+
+    @PostConstruct
+    public void load() {
+        synchronize();
+    }
+
+    public boolean isRevoked(String tokenId) {
+        return tokenId != null && bloomFilter.mightContain(tokenId) && revokedTokens.containsKey(tokenId);
+    }
+
+    /**
+     * Returns whether this call revoked the token. The insert is keyed on the token id, so when several
+     * nodes revoke the same token at once exactly one of them gets {@code true}.
+     */
+    @Transactional
+    public boolean revoke(String tokenId, Instant expiresAt) {
+        boolean revoked = revokedTokenRepository.insertIfAbsent(tokenId, expiresAt, Instant.now()) > 0;
+        remember(tokenId, expiresAt);
+        return revoked;
+    }
+
+    @Scheduled(fixedDelayString = "${security.token-revocation.sync-interval-millis:30000}")
+    public void synchronize() {
+        Instant now = Instant.now();
+        for (RevokedToken revokedToken : revokedTokenRepository.findByRevokedAtAfter(
+                lastSynchronized.minus(SYNC_OVERLAP))) {
+            remember(revokedToken.getTokenId(), revokedToken.getExpiresAt());
+        }
+        lastSynchronized = now;
+    }
+
+    @Scheduled(fixedDelayString = "${security.token-revocation.purge-interval-millis:600000}")
+    @Transactional
+    public void purgeExpired() {
+        Instant now = Instant.now();
+        revokedTokens.values().removeIf(expiresAt -> expiresAt.isBefore(now));
+        BloomFilter<CharSequence> rebuilt = newBloomFilter();
+        revokedTokens.keySet().forEach(rebuilt::put);
+        bloomFilter = rebuilt;
+        // ids remembered while the filter was rebuilt may only be in the old one
+        revokedTokens.keySet().forEach(rebuilt::put);
+        revokedTokenRepository.deleteByExpiresAtBefore(now);
+        log.debug("Revocation list holds {} tokens after purge", revokedTokens.size());
+    }
+
+    private void remember(String tokenId, Instant expiresAt) {
+        revokedTokens.put(tokenId, expiresAt);
+        bloomFilter.put(tokenId);
+    }
+
+    private BloomFilter<CharSequence> newBloomFilter() {
+        return BloomFilter.create(Funnels.stringFunnel(StandardCharsets.UTF_8), expectedInsertions,
+                falsePositiveProbability);
+    }
+}
@@ -0,0 +1,22 @@
+package org.example.config.security;
+
+import org.example.event.UserAccountChangedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+public class UserAccountChangedListener {
+
+    @Autowired
+    private UserDetailsCache userDetailsCache;
+
+    @Autowired
+    private VerifiedCredentialCache verifiedCredentialCache;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserAccountChanged(UserAccountChangedEvent event) {
+        userDetailsCache.removeUserFromCache(event.getUsername());
+        verifiedCredentialCache.evict(event.getUsername());
+    }
+}
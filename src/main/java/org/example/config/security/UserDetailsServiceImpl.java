@@ -1,19 +1,20 @@
 package org.example.config.security;
 
+import org.example.event.UserAccountChangedEvent;
 import org.example.exception.notfound.UserNotFoundException;
 import org.example.exception.security.BlockedRequestException;
 import org.example.repository.UserRepository;
 import org.example.service.LoginAttemptService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import jakarta.servlet.http.HttpServletRequest;
-
 @Service
-public class UserDetailsServiceImpl implements UserDetailsService {
+public class UserDetailsServiceImpl implements UserDetailsService, UserDetailsPasswordService {
 
     @Autowired
     private UserRepository userRepository;
@@ -21,14 +22,24 @@ public class UserDetailsServiceImpl implements UserDetailsService {
     @Autowired
     private LoginAttemptService loginAttemptService;
 
-    @Transactional(readOnly = true)
+    @Autowired
+    private UserDetailsCache userDetailsCache;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     @Override
     public UserDetails loadUserByUsername(String username) {
-        if (loginAttemptService.isBlocked()) {
+        if (loginAttemptService.isBlocked(username)) {
             throw new BlockedRequestException("blocked");
         }
 
-        return userRepository
+        UserDetails cachedUser = userDetailsCache.getUserFromCache(username);
+        if (cachedUser != null) {
+            return cachedUser;
+        }
+
+        UserDetails user = userRepository
                 .findByUsername(username)
                 .map(
                         storedUser -> org.springframework.security.core.userdetails.User.builder()
@@ -39,5 +50,23 @@ public class UserDetailsServiceImpl implements UserDetailsService {
                                 .build()
                 )
                 .orElseThrow(() -> new UserNotFoundException("User not found!"));
+        userDetailsCache.putUserInCache(user);
+        return user;
+    }
+
+    /**
+     * Stores a re-encoded hash after a successful login, e.g. when the BCrypt strength was raised.
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        userRepository.findByUsername(user.getUsername()).ifPresent(storedUser -> {
+            storedUser.setPassword(newPassword);
+            userRepository.save(storedUser);
+            eventPublisher.publishEvent(new UserAccountChangedEvent(this, storedUser.getUsername()));
+        });
+        return org.springframework.security.core.userdetails.User.withUserDetails(user)
+                .password(newPassword)
+                .build();
     }
 }
@@ -0,0 +1,95 @@
+package org.example.config.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+
+/**
+ * Remembers the last successfully verified credential of each user as an HMAC of username and
+ * password under a per-process random key, so repeated HTTP Basic calls skip the BCrypt check.
+ * An entry only matches while the stored hash it was verified against is unchanged.
+ */
+@Component
+public class VerifiedCredentialCache {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final int KEY_LENGTH = 32;
+
+    private final boolean enabled;
+
+    private final Cache<String, VerifiedCredential> cache;
+
+    private final ThreadLocal<Mac> mac;
+
+    @Autowired
+    public VerifiedCredentialCache(@Value("${security.credential-cache.enabled:false}") boolean enabled,
+                                   @Value("${security.credential-cache.max-size:10000}") long maxSize,
+                                   @Value("${security.credential-cache.ttl-seconds:60}") long ttlSeconds,
+                                   MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        cache = CacheBuilder.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                .recordStats()
+                .build();
+        GuavaCacheMetrics.monitor(meterRegistry, cache, "security.verified.credentials");
+
+        byte[] key = new byte[KEY_LENGTH];
+        new SecureRandom().nextBytes(key);
+        SecretKeySpec keySpec = new SecretKeySpec(key, HMAC_ALGORITHM);
+        mac = ThreadLocal.withInitial(() -> {
+            try {
+                Mac instance = Mac.getInstance(HMAC_ALGORITHM);
+                instance.init(keySpec);
+                return instance;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("Unable to initialize credential digest", e);
+            }
+        });
+    }
+
+    public boolean isVerified(String username, String presentedPassword, String storedHash) {
+        if (!enabled) {
+            return false;
+        }
+        VerifiedCredential verifiedCredential = cache.getIfPresent(username);
+        return verifiedCredential != null
+                && verifiedCredential.storedHash().equals(storedHash)
+                && MessageDigest.isEqual(verifiedCredential.digest(), digest(username, presentedPassword));
+    }
+
+    public void putVerified(String username, String presentedPassword, String storedHash) {
+        if (enabled) {
+            cache.put(username, new VerifiedCredential(digest(username, presentedPassword), storedHash));
+        }
+    }
+
+    public void evict(String username) {
+        cache.invalidate(username);
+    }
+
+    private byte[] digest(String username, String password) {
+        Mac instance = mac.get();
+        instance.update(username.getBytes(StandardCharsets.UTF_8));
+        instance.update((byte) 0);
+        return instance.doFinal(password.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private record VerifiedCredential(byte[] digest, String storedHash) {
+    }
+}
@@ -0,0 +1,60 @@
+package org.example.controller;
+
+import org.example.dto.page.PageDTO;
+import org.example.dto.trainee.TraineeEmbeddedDTO;
+import org.example.dto.trainer.TrainerEmbeddedDTO;
+import org.example.dto.training.TrainingDTO;
+import org.example.service.TraineeService;
+import org.example.service.TrainerService;
+import org.example.service.TrainingService;
+import org.example.utils.converter.TraineeConverter;
+import org.example.utils.converter.TrainerConverter;
+import org.example.utils.converter.TrainingConverter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.security.access.annotation.Secured;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@RestController
+@RequestMapping(value = "/api/admin")
+@Secured("ROLE_ADMIN")
+public class AdminController {
+
+    private final TraineeService traineeService;
+
+    private final TrainerService trainerService;
+
+    private final TrainingService trainingService;
+
+    @Autowired
+    public AdminController(TraineeService traineeService, TrainerService trainerService,
+                           TrainingService trainingService) {
+        this.traineeService = traineeService;
+        this.trainerService = trainerService;
+        this.trainingService = trainingService;
+    }
+
+    @GetMapping("/trainees")
+    public PageDTO<TraineeEmbeddedDTO> getTrainees(@PageableDefault(sort = "id") Pageable pageable) {
+        log.info("Endpoint '/api/admin/trainees' was called to list trainees");
+        return PageDTO.of(traineeService.getAllTrainees(pageable).map(TraineeConverter::convertToEmbeddedDto));
+    }
+
+    @GetMapping("/trainers")
+    public PageDTO<TrainerEmbeddedDTO> getTrainers(@PageableDefault(sort = "id") Pageable pageable) {
+        log.info("Endpoint '/api/admin/trainers' was called to list trainers");
+        return PageDTO.of(trainerService.getAllTrainers(pageable).map(TrainerConverter::convertToEmbeddedDto));
+    }
+
+    @GetMapping("/trainings")
+    public PageDTO<TrainingDTO> getTrainings(@PageableDefault(sort = "id") Pageable pageable) {
+        log.info("Endpoint '/api/admin/trainings' was called to list trainings");
+        return PageDTO.of(trainingService.getAllTrainings(pageable).map(TrainingConverter::convertToDto));
+    }
+}
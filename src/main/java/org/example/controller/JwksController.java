@@ -0,0 +1,42 @@
+package org.example.controller;
+
+import java.util.concurrent.TimeUnit;
+
+import org.example.config.security.JwtKeyManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Serves the public verification keys. The body is pre-serialized by {@link JwtKeyManager} on rotation,
+ * so a request costs an ETag comparison and a byte copy.
+ */
+@RestController
+public class JwksController {
+
+    private final JwtKeyManager jwtKeyManager;
+
+    private final CacheControl cacheControl;
+
+    public JwksController(JwtKeyManager jwtKeyManager,
+                          @Value("${security.jwt.jwks.max-age-seconds:300}") long maxAgeSeconds) {
+        this.jwtKeyManager = jwtKeyManager;
+        this.cacheControl = CacheControl.maxAge(maxAgeSeconds, TimeUnit.SECONDS).cachePublic();
+    }
+
+    @GetMapping(value = "/.well-known/jwks.json", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> jwks(@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false)
+                                       String ifNoneMatch) {
+        JwtKeyManager.PublishedJwkSet jwkSet = jwtKeyManager.getPublishedJwkSet();
+        if (jwkSet.etag().equals(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(cacheControl).eTag(jwkSet.etag()).build();
+        }
+        return ResponseEntity.ok().cacheControl(cacheControl).eTag(jwkSet.etag()).body(jwkSet.body());
+    }
+}
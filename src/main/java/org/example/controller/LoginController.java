@@ -1,11 +1,19 @@
 package org.example.controller;
 
+import org.example.dto.security.RefreshTokenDTO;
+import org.example.dto.security.TokenDTO;
 import org.example.service.TokenService;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
+import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -20,8 +28,23 @@ public class LoginController {
     }
 
     @PostMapping("/login")
-    public String login(Authentication authentication) {
+    public TokenDTO login(Authentication authentication) {
         log.info("Endpoint '/api/login' was called to authenticate trainee");
-        return tokenService.generateToken(authentication);
+        return tokenService.generateTokens(authentication);
+    }
+
+    @PostMapping("/token/refresh")
+    public TokenDTO refresh(@Valid @RequestBody RefreshTokenDTO refreshTokenDTO) {
+        log.info("Endpoint '/api/token/refresh' was called to refresh tokens");
+        return tokenService.refresh(refreshTokenDTO.getRefreshToken());
+    }
+
+    @PostMapping("/logout")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void logout(Authentication authentication, @AuthenticationPrincipal Jwt jwt,
+                       @RequestBody(required = false) RefreshTokenDTO refreshTokenDTO) {
+        log.info("Endpoint '/api/logout' was called to revoke tokens");
+        tokenService.revoke(jwt, refreshTokenDTO == null ? null : refreshTokenDTO.getRefreshToken(),
+                authentication.getName());
     }
 }
@@ -1,16 +1,21 @@
 package org.example.controller;
 
 import java.util.Date;
+import java.util.List;
 import java.util.Optional;
 
 import org.example.dto.credentials.CredentialsDTO;
 import org.example.dto.credentials.CredentialsUpdateDTO;
+import org.example.dto.registration.BulkRegistrationDTO;
+import org.example.dto.registration.RegistrationRequestDTO;
 import org.example.dto.trainee.TraineeDTO;
 import org.example.dto.trainee.TraineeUpdateDTO;
 import org.example.model.Trainee;
 import org.example.service.TraineeService;
+import org.example.utils.converter.RegistrationConverter;
 import org.example.utils.converter.TraineeConverter;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.annotation.Secured;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -55,6 +60,20 @@ public class TraineeController {
                 .build();
     }
 
+    @Secured("ROLE_ADMIN")
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public BulkRegistrationDTO bulkTraineeRegistration(@RequestBody List<RegistrationRequestDTO> requests) {
+        log.info("Endpoint '/api/trainees/bulk' was called to register {} trainees", requests.size());
+        return traineeService.createTrainees(requests);
+    }
+
+    @Secured("ROLE_ADMIN")
+    @PostMapping(value = "/bulk", consumes = "text/csv")
+    public BulkRegistrationDTO bulkTraineeRegistrationFromCsv(@RequestBody String csv) {
+        log.info("Endpoint '/api/trainees/bulk' was called to register trainees from CSV");
+        return traineeService.createTrainees(RegistrationConverter.convertFromCsv(csv));
+    }
+
     @PutMapping("/change-login")
     public ResponseEntity<Boolean> changeLogin(@Valid @RequestBody CredentialsUpdateDTO credentialsUpdateDTO) {
         log.info("Endpoint '/api/trainees/change-login' was called to update trainee's credentials");
@@ -5,6 +5,8 @@ import java.util.Optional;
 
 import org.example.dto.credentials.CredentialsDTO;
 import org.example.dto.credentials.CredentialsUpdateDTO;
+import org.example.dto.registration.BulkRegistrationDTO;
+import org.example.dto.registration.RegistrationRequestDTO;
 import org.example.dto.trainer.TrainerDTO;
 import org.example.dto.trainer.TrainerEmbeddedDTO;
 import org.example.dto.trainer.TrainerListDTO;
@@ -12,8 +14,10 @@ import org.example.dto.trainer.TrainerUpdateDTO;
 import org.example.enums.TrainingTypeName;
 import org.example.model.Trainer;
 import org.example.service.TrainerService;
+import org.example.utils.converter.RegistrationConverter;
 import org.example.utils.converter.TrainerConverter;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.annotation.Secured;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -57,6 +61,20 @@ public class TrainerController {
                 .build();
     }
 
+    @Secured("ROLE_ADMIN")
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public BulkRegistrationDTO bulkTrainerRegistration(@RequestBody List<RegistrationRequestDTO> requests) {
+        log.info("Endpoint '/api/trainers/bulk' was called to register {} trainers", requests.size());
+        return trainerService.createTrainers(requests);
+    }
+
+    @Secured("ROLE_ADMIN")
+    @PostMapping(value = "/bulk", consumes = "text/csv")
+    public BulkRegistrationDTO bulkTrainerRegistrationFromCsv(@RequestBody String csv) {
+        log.info("Endpoint '/api/trainers/bulk' was called to register trainers from CSV");
+        return trainerService.createTrainers(RegistrationConverter.convertFromCsv(csv));
+    }
+
     @PutMapping("/change-login")
     public ResponseEntity<Boolean> changeLogin(@Valid @RequestBody CredentialsUpdateDTO credentialsUpdateDTO) {
         log.info("Endpoint '/api/trainers/change-login' was called to update trainers credentials");
@@ -1,25 +1,38 @@
 package org.example.controller;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Date;
 import java.util.List;
 
+import org.example.dto.page.CursorPageDTO;
 import org.example.dto.training.TrainingCreateDTO;
 import org.example.dto.training.TrainingDTO;
+import org.example.dto.training.TrainingHistoryDTO;
 import org.example.dto.trainingType.TrainingTypeDTO;
+import org.example.enums.ExportFormat;
 import org.example.enums.TrainingTypeName;
-import org.example.model.Training;
 import org.example.model.TrainingType;
+import org.example.service.TrainingImportService;
 import org.example.service.TrainingService;
 import org.example.utils.converter.TrainingConverter;
 import org.example.utils.converter.TrainingTypeConverter;
+import org.example.utils.export.TrainingExportWriter;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.annotation.Secured;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
@@ -31,43 +44,96 @@ public class TrainingController {
 
     private final TrainingService trainingService;
 
+    private final TrainingImportService trainingImportService;
+
+    private final ObjectMapper objectMapper;
+
     @Autowired
-    public TrainingController(TrainingService trainingService) {
+    public TrainingController(TrainingService trainingService, TrainingImportService trainingImportService,
+                              ObjectMapper objectMapper) {
         this.trainingService = trainingService;
+        this.trainingImportService = trainingImportService;
+        this.objectMapper = objectMapper;
     }
 
     @GetMapping("/trainee")
-    public List<TrainingDTO> getTraineeTrainingsList(
+    public CursorPageDTO<TrainingDTO> getTraineeTrainingsList(
             @RequestParam String username,
             @RequestParam(required = false) Date periodFrom,
             @RequestParam(required = false) Date periodTo,
             @RequestParam(required = false) String trainerName,
-            @RequestParam(required = false) TrainingTypeName trainingType
+            @RequestParam(required = false) TrainingTypeName trainingType,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
     ) {
         log.info("Endpoint '/api/trainings/trainee' was called to get a trainee's training list");
-        List<Training> trainings = trainingService.getTraineeTrainingList(
+        CursorPageDTO<TrainingHistoryDTO> trainings = trainingService.getTraineeTrainingList(
                 username,
                 periodFrom,
                 periodTo,
                 trainerName,
-                trainingType.name());
-        return TrainingConverter.convertToDtoList(trainings);
+                trainingType,
+                cursor,
+                size);
+        return TrainingConverter.convertHistoryToDtoPage(trainings);
+    }
+
+    @Secured("ROLE_ADMIN")
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTrainings(
+            @RequestParam(required = false) String trainerName,
+            @RequestParam(required = false) Date periodFrom,
+            @RequestParam(required = false) Date periodTo,
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format
+    ) {
+        log.info("Endpoint '/api/trainings/export' was called to export trainings");
+        trainingService.checkExportPeriod(periodFrom, periodTo);
+        StreamingResponseBody body = outputStream -> {
+            try (TrainingExportWriter writer = new TrainingExportWriter(outputStream, format, objectMapper)) {
+                trainingService.exportTrainings(trainerName, periodFrom, periodTo, writer::write);
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("trainings." + format.getFileExtension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
+    @Secured("ROLE_ADMIN")
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> importTrainings(@RequestBody List<TrainingCreateDTO> trainings) {
+        log.info("Endpoint '/api/trainings/import' was called to import {} trainings", trainings.size());
+        return streamImportProgress(trainings);
+    }
+
+    @Secured("ROLE_ADMIN")
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public ResponseEntity<StreamingResponseBody> importTrainingsFromCsv(@RequestBody String csv) {
+        log.info("Endpoint '/api/trainings/import' was called to import trainings from CSV");
+        return streamImportProgress(TrainingConverter.convertFromCsv(csv));
     }
 
     @GetMapping("/trainer")
-    public List<TrainingDTO> getTrainerTrainingsList(
+    public CursorPageDTO<TrainingDTO> getTrainerTrainingsList(
             @RequestParam String username,
             @RequestParam(required = false) Date periodFrom,
             @RequestParam(required = false) Date periodTo,
-            @RequestParam(required = false) String traineeName
+            @RequestParam(required = false) String traineeName,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
     ) {
         log.info("Endpoint '/api/trainings/trainer' was called to get a trainer's training list");
-        List<Training> trainings = trainingService.getTrainerTrainingList(
+        CursorPageDTO<TrainingHistoryDTO> trainings = trainingService.getTrainerTrainingList(
                 username,
                 periodFrom,
                 periodTo,
-                traineeName);
-        return TrainingConverter.convertToDtoList(trainings);
+                traineeName,
+                cursor,
+                size);
+        return TrainingConverter.convertHistoryToDtoPage(trainings);
     }
 
     @PostMapping
@@ -85,4 +151,23 @@ public class TrainingController {
         List<TrainingType> trainingTypes = trainingService.finaAllTrainingTypes();
         return TrainingTypeConverter.convertToDtoList(trainingTypes);
     }
+
+    /**
+     * Writes one NDJSON progress line per committed chunk; the last line has {@code done} set.
+     */
+    private ResponseEntity<StreamingResponseBody> streamImportProgress(List<TrainingCreateDTO> trainings) {
+        trainingImportService.checkImportSize(trainings.size());
+        StreamingResponseBody body = outputStream -> trainingImportService.importTrainings(trainings, progress -> {
+            try {
+                outputStream.write(objectMapper.writeValueAsBytes(progress));
+                outputStream.write('\n');
+                outputStream.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(ExportFormat.NDJSON.getContentType()))
+                .body(body);
+    }
 }
@@ -0,0 +1,18 @@
+package org.example.dto.page;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * One page of a keyset-paginated result. {@code nextCursor} is {@code null} on the last page.
+ */
+@Getter
+@AllArgsConstructor
+public class CursorPageDTO<T> {
+
+    private final List<T> content;
+
+    private final String nextCursor;
+}
@@ -0,0 +1,31 @@
+package org.example.dto.page;
+
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * One page of an offset-paginated listing, with the totals back-office tooling needs to render pagers.
+ */
+@Getter
+@AllArgsConstructor
+public class PageDTO<T> {
+
+    private final List<T> content;
+
+    private final int page;
+
+    private final int size;
+
+    private final long totalElements;
+
+    private final int totalPages;
+
+    public static <T> PageDTO<T> of(Page<T> page) {
+        return new PageDTO<>(page.getContent(), page.getNumber(), page.getSize(), page.getTotalElements(),
+                page.getTotalPages());
+    }
+}
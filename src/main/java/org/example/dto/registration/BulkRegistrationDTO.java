@@ -0,0 +1,25 @@
+package org.example.dto.registration;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Outcome of a bulk registration, with one result per submitted row in submission order.
+ */
+@Getter
+@AllArgsConstructor
+public class BulkRegistrationDTO {
+
+    private final int created;
+
+    private final int failed;
+
+    private final List<RegistrationResultDTO> results;
+
+    public static BulkRegistrationDTO of(List<RegistrationResultDTO> results) {
+        int created = (int) results.stream().filter(RegistrationResultDTO::isCreated).count();
+        return new BulkRegistrationDTO(created, results.size() - created, results);
+    }
+}
@@ -0,0 +1,23 @@
+package org.example.dto.registration;
+
+import java.util.Date;
+
+import org.example.enums.TrainingTypeName;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class RegistrationRequestDTO {
+
+    private String firstName;
+
+    private String lastName;
+
+    private Date dateOfBirth;
+
+    private String address;
+
+    private TrainingTypeName specialization;
+}
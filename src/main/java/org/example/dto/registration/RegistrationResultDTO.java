@@ -0,0 +1,34 @@
+package org.example.dto.registration;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class RegistrationResultDTO {
+
+    private final int row;
+
+    private final String username;
+
+    private final String password;
+
+    private final String error;
+
+    public static RegistrationResultDTO created(int row, String username, String password) {
+        return new RegistrationResultDTO(row, username, password, null);
+    }
+
+    public static RegistrationResultDTO failed(int row, String error) {
+        return new RegistrationResultDTO(row, null, null, error);
+    }
+
+    @JsonIgnore
+    public boolean isCreated() {
+        return error == null;
+    }
+}
@@ -0,0 +1,15 @@
+package org.example.dto.security;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class LoginOffenderDTO {
+
+    private String clientIp;
+
+    private long failedAttempts;
+
+    private long distinctUsernames;
+}
@@ -3,11 +3,13 @@ package org.example.dto.trainer;
 import java.util.List;
 
 import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Getter
 @NoArgsConstructor
+@AllArgsConstructor
 public class TrainerListDTO {
 
     @NotNull
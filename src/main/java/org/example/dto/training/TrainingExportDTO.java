@@ -0,0 +1,34 @@
+package org.example.dto.training;
+
+import java.util.Date;
+
+import org.example.enums.TrainingTypeName;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Export row, projected by {@code TrainingRepository} so that streamed rows never enter the persistence context.
+ */
+@Getter
+@AllArgsConstructor
+@JsonPropertyOrder({"id", "trainingDate", "trainingName", "trainingType", "trainingDuration", "trainerUsername",
+        "traineeUsername"})
+public class TrainingExportDTO {
+
+    private final long id;
+
+    private final Date trainingDate;
+
+    private final String trainingName;
+
+    private final TrainingTypeName trainingType;
+
+    private final int trainingDuration;
+
+    private final String trainerUsername;
+
+    private final String traineeUsername;
+}
@@ -0,0 +1,30 @@
+package org.example.dto.training;
+
+import java.util.Date;
+
+import org.example.enums.TrainingTypeName;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Read-only training history row, projected by {@code TrainingRepository} straight from a joined select.
+ */
+@Getter
+@AllArgsConstructor
+public class TrainingHistoryDTO {
+
+    private final long id;
+
+    private final String trainingName;
+
+    private final Date trainingDate;
+
+    private final TrainingTypeName trainingTypeName;
+
+    private final int trainingDuration;
+
+    private final String trainerFirstName;
+
+    private final String trainerLastName;
+}
@@ -0,0 +1,13 @@
+package org.example.dto.training;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class TrainingImportErrorDTO {
+
+    private final int row;
+
+    private final String error;
+}
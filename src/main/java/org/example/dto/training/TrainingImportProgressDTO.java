@@ -0,0 +1,28 @@
+package org.example.dto.training;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Running totals of a training import after one committed chunk, with the errors of that chunk's rows only.
+ */
+@Getter
+@AllArgsConstructor
+public class TrainingImportProgressDTO {
+
+    private final int processed;
+
+    private final int total;
+
+    private final int imported;
+
+    private final int failed;
+
+    private final List<TrainingImportErrorDTO> errors;
+
+    public boolean isDone() {
+        return processed == total;
+    }
+}
@@ -0,0 +1,16 @@
+package org.example.dto.training;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Username to id mapping of a trainee or trainer, read without loading the entity.
+ */
+@Getter
+@AllArgsConstructor
+public class TrainingParticipantDTO {
+
+    private final String username;
+
+    private final long id;
+}
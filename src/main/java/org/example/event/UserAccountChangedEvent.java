@@ -0,0 +1,16 @@
+package org.example.event;
+
+import org.springframework.context.ApplicationEvent;
+
+import lombok.Getter;
+
+@Getter
+public class UserAccountChangedEvent extends ApplicationEvent {
+
+    private final String username;
+
+    public UserAccountChangedEvent(Object source, String username) {
+        super(source);
+        this.username = username;
+    }
+}
@@ -23,4 +23,10 @@ public class CredentialsExceptionHandler {
     public Map<String, String> handleIncorrectPasswordException(IncorrectPasswordException ex) {
         return getErrorResponse(ex.getMessage());
     }
+
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    @ExceptionHandler(PasswordHashingUnavailableException.class)
+    public Map<String, String> handlePasswordHashingUnavailableException(PasswordHashingUnavailableException ex) {
+        return getErrorResponse(ex.getMessage());
+    }
 }
@@ -0,0 +1,8 @@
+package org.example.exception.credentials;
+
+public class PasswordHashingUnavailableException extends RuntimeException {
+
+    public PasswordHashingUnavailableException(String errorMessage) {
+        super(errorMessage);
+    }
+}
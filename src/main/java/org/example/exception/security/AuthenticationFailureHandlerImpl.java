@@ -41,7 +41,8 @@ public class AuthenticationFailureHandlerImpl implements AuthenticationFailureHa
         data.put("exception", exception.getMessage());
 
         if (loginAttemptService.isBlocked()) {
-            data.put("blockedRequest", "Blocked for 5 minutes after 3 unsuccessful attempts");
+            data.put("blockedRequest", String.format("Blocked for %d minutes after %d unsuccessful attempts",
+                    loginAttemptService.getWindowMinutes(), loginAttemptService.getMaxAttempts()));
         }
 
         response.getOutputStream()
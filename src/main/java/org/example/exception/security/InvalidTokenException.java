@@ -0,0 +1,8 @@
+package org.example.exception.security;
+
+public class InvalidTokenException extends RuntimeException {
+
+    public InvalidTokenException(String errorMessage) {
+        super(errorMessage);
+    }
+}
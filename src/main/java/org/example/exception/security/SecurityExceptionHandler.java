@@ -0,0 +1,20 @@
+package org.example.exception.security;
+
+import static org.example.utils.exception.ErrorResponseFactory.getErrorResponse;
+
+import java.util.Map;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+@RestControllerAdvice
+public class SecurityExceptionHandler {
+
+    @ResponseStatus(HttpStatus.UNAUTHORIZED)
+    @ExceptionHandler(InvalidTokenException.class)
+    public Map<String, String> handleInvalidTokenException(InvalidTokenException ex) {
+        return getErrorResponse(ex.getMessage());
+    }
+}
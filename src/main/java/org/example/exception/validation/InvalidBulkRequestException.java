@@ -0,0 +1,8 @@
+package org.example.exception.validation;
+
+public class InvalidBulkRequestException extends RuntimeException {
+
+    public InvalidBulkRequestException(String errorMessage) {
+        super(errorMessage);
+    }
+}
@@ -0,0 +1,8 @@
+package org.example.exception.validation;
+
+public class InvalidCursorException extends RuntimeException {
+
+    public InvalidCursorException(String errorMessage) {
+        super(errorMessage);
+    }
+}
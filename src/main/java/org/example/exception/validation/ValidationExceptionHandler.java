@@ -1,8 +1,11 @@
 package org.example.exception.validation;
 
+import static org.example.utils.exception.ErrorResponseFactory.getErrorResponse;
+
 import java.util.HashMap;
 import java.util.Map;
 
+import org.springframework.data.mapping.PropertyReferenceException;
 import org.springframework.http.HttpStatus;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -24,4 +27,22 @@ public class ValidationExceptionHandler {
         });
         return errors;
     }
+
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @ExceptionHandler(PropertyReferenceException.class)
+    public Map<String, String> handlePropertyReferenceException(PropertyReferenceException ex) {
+        return getErrorResponse("Cannot sort by '" + ex.getPropertyName() + "'");
+    }
+
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @ExceptionHandler(InvalidCursorException.class)
+    public Map<String, String> handleInvalidCursorException(InvalidCursorException ex) {
+        return getErrorResponse(ex.getMessage());
+    }
+
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @ExceptionHandler(InvalidBulkRequestException.class)
+    public Map<String, String> handleInvalidBulkRequestException(InvalidBulkRequestException ex) {
+        return getErrorResponse(ex.getMessage());
+    }
 }
@@ -0,0 +1,36 @@
+package org.example.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Failed login count for one key in one time bucket. Written by
+ * {@link org.example.utils.ratelimit.JdbcLoginAttemptStore}; mapped here so the table is part of the schema.
+ */
+@Entity
+@Table(name = "login_attempts")
+@IdClass(LoginAttemptId.class)
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class LoginAttempt {
+
+    @Id
+    @Column(length = 255)
+    private String attemptKey;
+
+    @Id
+    private long bucket;
+
+    private long attempts;
+}
@@ -0,0 +1,17 @@
+package org.example.model;
+
+import java.io.Serializable;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class LoginAttemptId implements Serializable {
+
+    private String attemptKey;
+
+    private long bucket;
+}
@@ -15,6 +15,7 @@ import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OneToOne;
+import jakarta.persistence.SequenceGenerator;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -30,7 +31,8 @@ import lombok.Setter;
 public class Trainee {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "traineeIdGenerator")
+    @SequenceGenerator(name = "traineeIdGenerator", sequenceName = "trainee_seq", allocationSize = 50)
     private long id;
 
     private Date dateOfBirth;
@@ -7,8 +7,11 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -16,6 +19,10 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_training_trainee_date_id", columnList = "trainee_id, trainingDate, id"),
+        @Index(name = "idx_training_trainer_date_id", columnList = "trainer_id, trainingDate, id")
+})
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
@@ -24,7 +31,8 @@ import lombok.Setter;
 public class Training {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "trainingIdGenerator")
+    @SequenceGenerator(name = "trainingIdGenerator", sequenceName = "training_seq", allocationSize = 50)
     private long id;
 
     @ManyToOne(cascade = {CascadeType.PERSIST, CascadeType.MERGE, CascadeType.REFRESH})
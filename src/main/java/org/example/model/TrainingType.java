@@ -12,6 +12,7 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -27,7 +28,8 @@ import lombok.Setter;
 public class TrainingType {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "trainingTypeIdGenerator")
+    @SequenceGenerator(name = "trainingTypeIdGenerator", sequenceName = "training_type_seq", allocationSize = 50)
     private long id;
 
     @Enumerated(EnumType.STRING)
@@ -0,0 +1,31 @@
+package org.example.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Number of usernames handed out for one {@code firstName.lastName} base. Written by
+ * {@link org.example.utils.credentials.UsernameAllocator}; mapped here so the table is part of the schema.
+ */
+@Entity
+@Table(name = "username_counters")
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class UsernameCounter {
+
+    @Id
+    @Column(length = 255)
+    private String baseUsername;
+
+    private long allocated;
+}
@@ -0,0 +1,28 @@
+package org.example.repository;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.example.model.RevokedToken;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.ListCrudRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface RevokedTokenRepository extends ListCrudRepository<RevokedToken, String> {
+
+    List<RevokedToken> findByRevokedAtAfter(Instant revokedAt);
+
+    void deleteByExpiresAtBefore(Instant expiresAt);
+
+    /**
+     * Returns 1 when the row was inserted and 0 when the token id was already present.
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO revoked_token (token_id, expires_at, revoked_at) "
+            + "VALUES (:tokenId, :expiresAt, :revokedAt)", nativeQuery = true)
+    int insertIfAbsent(@Param("tokenId") String tokenId, @Param("expiresAt") Instant expiresAt,
+                       @Param("revokedAt") Instant revokedAt);
+}
@@ -1,15 +1,35 @@
 package org.example.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
+import org.example.dto.training.TrainingParticipantDTO;
 import org.example.model.Trainee;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.ListCrudRepository;
+import org.springframework.data.repository.ListPagingAndSortingRepository;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface TraineeRepository extends ListCrudRepository<Trainee, Long> {
+public interface TraineeRepository extends ListCrudRepository<Trainee, Long>, ListPagingAndSortingRepository<Trainee, Long>,
+        TraineeTrainerLinkRepository {
+
+    @Override
+    @EntityGraph(attributePaths = "user")
+    Page<Trainee> findAll(Pageable pageable);
 
     Optional<Trainee> findByUserUsername(String username);
 
+    @EntityGraph(attributePaths = {"user", "trainerList", "trainerList.user", "trainerList.specialization"})
+    Optional<Trainee> findWithTrainersByUserUsername(String username);
+
+    @Query("SELECT new org.example.dto.training.TrainingParticipantDTO(u.username, t.id) "
+            + "FROM Trainee t JOIN t.user u WHERE u.username IN :usernames")
+    List<TrainingParticipantDTO> findParticipantsByUsernames(Collection<String> usernames);
+
     boolean deleteByUserUsername(String username);
 }
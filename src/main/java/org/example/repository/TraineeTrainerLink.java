@@ -0,0 +1,7 @@
+package org.example.repository;
+
+/**
+ * One row of the {@code trainers_trainees} join table.
+ */
+public record TraineeTrainerLink(long traineeId, long trainerId) {
+}
@@ -0,0 +1,21 @@
+package org.example.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface TraineeTrainerLinkRepository {
+
+    /**
+     * Inserts {@code trainers_trainees} rows in one JDBC batch. The caller passes only trainers that are
+     * not yet assigned; the trainee's mapped collection is not updated.
+     */
+    void addTrainerLinks(long traineeId, Collection<Long> trainerIds);
+
+    /**
+     * Inserts the given links in JDBC batches, bypassing the mapped collections like
+     * {@link #addTrainerLinks(long, Collection)}.
+     */
+    void addLinks(Collection<TraineeTrainerLink> links);
+
+    List<TraineeTrainerLink> findLinksByTraineeIds(Collection<Long> traineeIds);
+}
@@ -0,0 +1,63 @@
+package org.example.repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import com.google.common.collect.Iterables;
+
+public class TraineeTrainerLinkRepositoryImpl implements TraineeTrainerLinkRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO trainers_trainees (trainee_id, trainer_id) VALUES (?, ?)";
+    private static final String SELECT_BY_TRAINEES_SQL =
+            "SELECT trainee_id, trainer_id FROM trainers_trainees WHERE trainee_id IN (:traineeIds)";
+    private static final int BATCH_SIZE = 500;
+    private static final int IN_LIST_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Autowired
+    public TraineeTrainerLinkRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    @Override
+    public void addTrainerLinks(long traineeId, Collection<Long> trainerIds) {
+        if (trainerIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, trainerIds, trainerIds.size(), (statement, trainerId) -> {
+            statement.setLong(1, traineeId);
+            statement.setLong(2, trainerId);
+        });
+    }
+
+    @Override
+    public void addLinks(Collection<TraineeTrainerLink> links) {
+        if (links.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, links, BATCH_SIZE, (statement, link) -> {
+            statement.setLong(1, link.traineeId());
+            statement.setLong(2, link.trainerId());
+        });
+    }
+
+    @Override
+    public List<TraineeTrainerLink> findLinksByTraineeIds(Collection<Long> traineeIds) {
+        List<TraineeTrainerLink> links = new ArrayList<>();
+        for (List<Long> partition : Iterables.partition(traineeIds, IN_LIST_SIZE)) {
+            links.addAll(namedParameterJdbcTemplate.query(SELECT_BY_TRAINEES_SQL, Map.of("traineeIds", partition),
+                    (resultSet, rowNum) -> new TraineeTrainerLink(resultSet.getLong(1), resultSet.getLong(2))));
+        }
+        return links;
+    }
+}
@@ -1,18 +1,37 @@
 package org.example.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.example.dto.training.TrainingParticipantDTO;
 import org.example.model.Trainer;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.ListCrudRepository;
+import org.springframework.data.repository.ListPagingAndSortingRepository;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface TrainerRepository extends ListCrudRepository<Trainer, Long> {
+public interface TrainerRepository extends ListCrudRepository<Trainer, Long>, ListPagingAndSortingRepository<Trainer, Long> {
+
+    @Override
+    @EntityGraph(attributePaths = {"user", "specialization"})
+    Page<Trainer> findAll(Pageable pageable);
 
     Optional<Trainer> findByUserUsername(String username);
 
+    @EntityGraph(attributePaths = {"user", "specialization", "traineeList", "traineeList.user"})
+    Optional<Trainer> findWithTraineesByUserUsername(String username);
+
+    List<Trainer> findByUserUsernameIn(Collection<String> usernames);
+
+    @Query("SELECT new org.example.dto.training.TrainingParticipantDTO(u.username, t.id) "
+            + "FROM Trainer t JOIN t.user u WHERE u.username IN :usernames")
+    List<TrainingParticipantDTO> findParticipantsByUsernames(Collection<String> usernames);
+
     boolean deleteByUserUsername(String username);
 
 //    @Query("SELECT t FROM Trainer t "
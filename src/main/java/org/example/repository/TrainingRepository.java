@@ -2,19 +2,98 @@ package org.example.repository;
 
 import java.util.Date;
 import java.util.List;
+import java.util.stream.Stream;
 
+import org.example.dto.training.TrainingExportDTO;
+import org.example.dto.training.TrainingHistoryDTO;
 import org.example.enums.TrainingTypeName;
 import org.example.model.Training;
-import org.example.model.TrainingType;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.ListCrudRepository;
+import org.springframework.data.repository.ListPagingAndSortingRepository;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
+
+/**
+ * History queries are keyset-paginated on {@code (trainingDate, id)}: pass the last row of the previous page as
+ * {@code afterDate}/{@code afterId} and one more than the page size as the limit to detect a following page.
+ */
 @Repository
-public interface TrainingRepository extends ListCrudRepository<Training, Long> {
+public interface TrainingRepository extends ListCrudRepository<Training, Long>, ListPagingAndSortingRepository<Training, Long> {
+
+    String EXPORT_FETCH_SIZE = "1000";
+
+    @Override
+    @EntityGraph(attributePaths = {"trainingType", "trainer", "trainer.user"})
+    Page<Training> findAll(Pageable pageable);
+
+    @Query("SELECT new org.example.dto.training.TrainingHistoryDTO(t.id, t.trainingName, t.trainingDate, "
+            + "tt.trainingTypeName, t.trainingDuration, tru.firstName, tru.lastName) "
+            + "FROM Training t "
+            + "JOIN t.trainingType tt "
+            + "JOIN t.trainer tr JOIN tr.user tru "
+            + "JOIN t.trainee te JOIN te.user teu "
+            + "WHERE teu.username = :username "
+            + "AND t.trainingDate BETWEEN :periodFrom AND :periodTo "
+            + "AND (t.trainingDate > :afterDate OR (t.trainingDate = :afterDate AND t.id > :afterId)) "
+            + "AND (:trainerName IS NULL OR tru.username = :trainerName) "
+            + "AND (:trainingTypeName IS NULL OR tt.trainingTypeName = :trainingTypeName) "
+            + "ORDER BY t.trainingDate, t.id")
+    List<TrainingHistoryDTO> findTraineeTrainingHistory(@Param("username") String username,
+                                                        @Param("periodFrom") Date periodFrom,
+                                                        @Param("periodTo") Date periodTo,
+                                                        @Param("trainerName") String trainerName,
+                                                        @Param("trainingTypeName") TrainingTypeName trainingTypeName,
+                                                        @Param("afterDate") Date afterDate,
+                                                        @Param("afterId") long afterId,
+                                                        Limit limit);
 
-    List<Training> findByTraineeUserUsernameAndTrainingDateBetweenAndTrainerUserUsernameAndTrainingTypeTrainingTypeName(
-            String username, Date periodFrom, Date periodTo, String trainerName, String trainingTypeName);
+    /**
+     * Rows are fetched from the driver {@value #EXPORT_FETCH_SIZE} at a time. Must be consumed inside a transaction
+     * and closed.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT new org.example.dto.training.TrainingExportDTO(t.id, t.trainingDate, t.trainingName, "
+            + "tt.trainingTypeName, t.trainingDuration, tru.username, teu.username) "
+            + "FROM Training t "
+            + "JOIN t.trainingType tt "
+            + "JOIN t.trainer tr JOIN tr.user tru "
+            + "JOIN t.trainee te JOIN te.user teu "
+            + "WHERE (:trainerName IS NULL OR tru.username = :trainerName) "
+            + "AND (:periodFrom IS NULL OR t.trainingDate >= :periodFrom) "
+            + "AND (:periodTo IS NULL OR t.trainingDate <= :periodTo) "
+            + "ORDER BY t.trainingDate, t.id")
+    Stream<TrainingExportDTO> streamTrainingExport(@Param("trainerName") String trainerName,
+                                                   @Param("periodFrom") Date periodFrom,
+                                                   @Param("periodTo") Date periodTo);
 
-    List<Training> findByTrainerUserUsernameAndTrainingDateBetweenAndTraineeUserUsername(
-            String username, Date periodFrom, Date periodTo, String traineeName);
+    @Query("SELECT new org.example.dto.training.TrainingHistoryDTO(t.id, t.trainingName, t.trainingDate, "
+            + "tt.trainingTypeName, t.trainingDuration, tru.firstName, tru.lastName) "
+            + "FROM Training t "
+            + "JOIN t.trainingType tt "
+            + "JOIN t.trainer tr JOIN tr.user tru "
+            + "JOIN t.trainee te JOIN te.user teu "
+            + "WHERE tru.username = :username "
+            + "AND t.trainingDate BETWEEN :periodFrom AND :periodTo "
+            + "AND (t.trainingDate > :afterDate OR (t.trainingDate = :afterDate AND t.id > :afterId)) "
+            + "AND (:traineeName IS NULL OR teu.username = :traineeName) "
+            + "ORDER BY t.trainingDate, t.id")
+    List<TrainingHistoryDTO> findTrainerTrainingHistory(@Param("username") String username,
+                                                        @Param("periodFrom") Date periodFrom,
+                                                        @Param("periodTo") Date periodTo,
+                                                        @Param("traineeName") String traineeName,
+                                                        @Param("afterDate") Date afterDate,
+                                                        @Param("afterId") long afterId,
+                                                        Limit limit);
 }
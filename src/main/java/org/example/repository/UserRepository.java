@@ -10,6 +10,4 @@ import org.springframework.stereotype.Repository;
 public interface UserRepository extends ListCrudRepository<User, Long> {
 
     Optional<User> findByUsername(String username);
-
-    Long countByUsernameContaining(String baseUsername);
 }
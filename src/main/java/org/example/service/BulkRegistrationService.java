@@ -0,0 +1,172 @@
+package org.example.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.example.dto.registration.BulkRegistrationDTO;
+import org.example.dto.registration.RegistrationRequestDTO;
+import org.example.dto.registration.RegistrationResultDTO;
+import org.example.exception.credentials.PasswordHashingUnavailableException;
+import org.example.exception.validation.InvalidBulkRequestException;
+import org.example.model.User;
+import org.example.utils.credentials.CredentialsGenerator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Pipeline shared by bulk trainee and trainer registration. Usernames for the whole request are allocated
+ * in one lookup, then rows go through in chunks: the next chunk's passwords are hashed on the
+ * {@link PasswordHashingService} pool while the current chunk is inserted, within the pool's bulk share. Each chunk is saved by the
+ * caller's saver in its own transaction, so a failing chunk does not undo the chunks before it.
+ */
+@Service
+@Slf4j
+public class BulkRegistrationService {
+
+    private static final String NAME_REQUIRED = "First name and last name are required";
+    private static final String HASHING_FAILED = "Password could not be generated, please retry this row";
+    private static final String SAVE_FAILED = "Row could not be saved, please retry this row";
+
+    private final CredentialsGenerator generator;
+
+    private final PasswordHashingService passwordHashingService;
+
+    private final int chunkSize;
+
+    private final int maxRows;
+
+    @Autowired
+    public BulkRegistrationService(CredentialsGenerator credentialsGenerator,
+                                   PasswordHashingService passwordHashingService,
+                                   @Value("${registration.bulk.chunk-size:50}") int chunkSize,
+                                   @Value("${registration.bulk.max-rows:5000}") int maxRows) {
+        this.generator = credentialsGenerator;
+        this.passwordHashingService = passwordHashingService;
+        this.chunkSize = chunkSize;
+        this.maxRows = maxRows;
+    }
+
+    /**
+     * @param validator     returns an error message for rows the caller rejects, or {@code null}
+     * @param entityFactory builds the entity for a row around its already credentialed user
+     * @param saver         persists one chunk of entities in a single transaction
+     */
+    public <T> BulkRegistrationDTO register(List<RegistrationRequestDTO> requests,
+                                            Function<RegistrationRequestDTO, String> validator,
+                                            BiFunction<RegistrationRequestDTO, User, T> entityFactory,
+                                            Consumer<List<T>> saver) {
+        if (requests == null || requests.isEmpty()) {
+            throw new InvalidBulkRequestException("At least one row must be submitted");
+        }
+        if (requests.size() > maxRows) {
+            throw new InvalidBulkRequestException("At most " + maxRows + " rows can be submitted at once");
+        }
+        RegistrationResultDTO[] results = new RegistrationResultDTO[requests.size()];
+        List<Integer> rows = new ArrayList<>(requests.size());
+        List<User> users = new ArrayList<>(requests.size());
+        for (int row = 0; row < requests.size(); row++) {
+            RegistrationRequestDTO request = requests.get(row);
+            String error = isBlank(request.getFirstName()) || isBlank(request.getLastName())
+                    ? NAME_REQUIRED
+                    : validator.apply(request);
+            if (error != null) {
+                results[row] = RegistrationResultDTO.failed(row + 1, error);
+                continue;
+            }
+            rows.add(row);
+            users.add(User.builder()
+                    .firstName(request.getFirstName().trim())
+                    .lastName(request.getLastName().trim())
+                    .isActive(true)
+                    .build());
+        }
+
+        List<String> usernames = generator.generateUsernames(users);
+        for (int i = 0; i < users.size(); i++) {
+            users.get(i).setUsername(usernames.get(i));
+        }
+
+        PendingChunk current = users.isEmpty() ? null : hash(rows, users, 0);
+        while (current != null) {
+            int nextStart = current.start() + chunkSize;
+            PendingChunk next = nextStart < users.size() ? hash(rows, users, nextStart) : null;
+            save(current, requests, entityFactory, saver, results);
+            current = next;
+        }
+        return BulkRegistrationDTO.of(Arrays.asList(results));
+    }
+
+    private PendingChunk hash(List<Integer> rows, List<User> users, int start) {
+        int end = Math.min(start + chunkSize, users.size());
+        List<String> passwords = new ArrayList<>(end - start);
+        List<CompletableFuture<String>> hashes = new ArrayList<>(end - start);
+        for (int i = start; i < end; i++) {
+            String password = generator.generateRandomPassword();
+            passwords.add(password);
+            hashes.add(encode(password));
+        }
+        return new PendingChunk(start, rows.subList(start, end), users.subList(start, end), passwords, hashes);
+    }
+
+    private CompletableFuture<String> encode(String password) {
+        try {
+            return passwordHashingService.encodeBulkAsync(password);
+        } catch (PasswordHashingUnavailableException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private <T> void save(PendingChunk chunk, List<RegistrationRequestDTO> requests,
+                          BiFunction<RegistrationRequestDTO, User, T> entityFactory, Consumer<List<T>> saver,
+                          RegistrationResultDTO[] results) {
+        List<T> entities = new ArrayList<>(chunk.users().size());
+        List<Integer> hashed = new ArrayList<>(chunk.users().size());
+        for (int i = 0; i < chunk.users().size(); i++) {
+            int row = chunk.rows().get(i);
+            try {
+                User user = chunk.users().get(i);
+                user.setPassword(chunk.hashes().get(i).join());
+                entities.add(entityFactory.apply(requests.get(row), user));
+                hashed.add(i);
+            } catch (CompletionException e) {
+                log.warn("Password hashing failed for bulk registration row {}", row + 1);
+                results[row] = RegistrationResultDTO.failed(row + 1, HASHING_FAILED);
+            }
+        }
+        if (entities.isEmpty()) {
+            return;
+        }
+        try {
+            saver.accept(entities);
+            for (int i : hashed) {
+                int row = chunk.rows().get(i);
+                results[row] = RegistrationResultDTO.created(row + 1, chunk.users().get(i).getUsername(),
+                        chunk.passwords().get(i));
+            }
+        } catch (DataAccessException e) {
+            log.warn("Bulk registration chunk starting at row {} could not be saved", chunk.rows().get(0) + 1, e);
+            for (int i : hashed) {
+                int row = chunk.rows().get(i);
+                results[row] = RegistrationResultDTO.failed(row + 1, SAVE_FAILED);
+            }
+        }
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private record PendingChunk(int start, List<Integer> rows, List<User> users, List<String> passwords,
+                                List<CompletableFuture<String>> hashes) {
+    }
+}
@@ -0,0 +1,202 @@
+package org.example.service;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.example.dto.security.LoginOffenderDTO;
+import org.example.utils.sketch.CountMinSketch;
+import org.example.utils.sketch.HyperLogLog;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Approximate failed-login statistics in constant memory. Client and username counts live in separate
+ * count-min sketches, so a spray across usernames does not inflate client estimates, and only the heaviest
+ * client addresses keep a HyperLogLog of the usernames they tried. Estimates overcount by about
+ * {@code e * failures / sketchWidth}; keep the width well above the failures expected per window divided by
+ * the attempt limits.
+ * The sketch is replaced every window and the previous one is kept, so estimates cover
+ * between one and two windows.
+ */
+@Service
+public class LoginAbuseTracker {
+
+    private final int sketchDepth;
+
+    private final int sketchWidth;
+
+    private final int maxOffenders;
+
+    private final int usernamePrecision;
+
+    private final long windowMillis;
+
+    private final LongSupplier clock;
+
+    private volatile Generation current;
+
+    private volatile Generation previous;
+
+    @Autowired
+    public LoginAbuseTracker(@Value("${security.login-abuse.sketch-depth:4}") int sketchDepth,
+                             @Value("${security.login-abuse.sketch-width:65536}") int sketchWidth,
+                             @Value("${security.login-abuse.max-offenders:50}") int maxOffenders,
+                             @Value("${security.login-abuse.username-precision:8}") int usernamePrecision,
+                             @Value("${security.login-attempts.window-seconds:300}") long windowSeconds) {
+        this(sketchDepth, sketchWidth, maxOffenders, usernamePrecision, TimeUnit.SECONDS.toMillis(windowSeconds),
+                System::currentTimeMillis);
+    }
+
+    LoginAbuseTracker(int sketchDepth, int sketchWidth, int maxOffenders, int usernamePrecision,
+                      long windowMillis, LongSupplier clock) {
+        this.sketchDepth = sketchDepth;
+        this.sketchWidth = sketchWidth;
+        this.maxOffenders = maxOffenders;
+        this.usernamePrecision = usernamePrecision;
+        this.windowMillis = windowMillis;
+        this.clock = clock;
+        this.current = new Generation(clock.getAsLong());
+        this.previous = new Generation(clock.getAsLong());
+    }
+
+    public void record(String clientIp, String username) {
+        Generation generation = currentGeneration();
+        long attempts = generation.clientSketch.add(clientIp);
+        if (username != null && !username.isEmpty()) {
+            generation.usernameSketch.add(username);
+        }
+        generation.offer(clientIp, attempts, username);
+    }
+
+    public long clientAttempts(String clientIp) {
+        Generation generation = currentGeneration();
+        return generation.clientSketch.estimate(clientIp) + previous.clientSketch.estimate(clientIp);
+    }
+
+    public long usernameAttempts(String username) {
+        Generation generation = currentGeneration();
+        return generation.usernameSketch.estimate(username) + previous.usernameSketch.estimate(username);
+    }
+
+    public long distinctUsernames(String clientIp) {
+        Generation generation = currentGeneration();
+        return Math.max(generation.distinctUsernames(clientIp), previous.distinctUsernames(clientIp));
+    }
+
+    public List<LoginOffenderDTO> topOffenders() {
+        Generation generation = currentGeneration();
+        Set<String> clientIps = Stream.concat(generation.offenders.keySet().stream(),
+                previous.offenders.keySet().stream()).collect(Collectors.toSet());
+        return clientIps.stream()
+                .map(clientIp -> LoginOffenderDTO.builder()
+                        .clientIp(clientIp)
+                        .failedAttempts(clientAttempts(clientIp))
+                        .distinctUsernames(distinctUsernames(clientIp))
+                        .build())
+                .sorted(Comparator.comparingLong(LoginOffenderDTO::getFailedAttempts).reversed())
+                .limit(maxOffenders)
+                .toList();
+    }
+
+    private Generation currentGeneration() {
+        long now = clock.getAsLong();
+        Generation generation = current;
+        if (now - generation.startedAt < windowMillis) {
+            return generation;
+        }
+        synchronized (this) {
+            if (current == generation) {
+                previous = now - generation.startedAt < 2 * windowMillis ? generation : new Generation(now);
+                current = new Generation(now);
+            }
+            return current;
+        }
+    }
+
+    private final class Generation {
+
+        private final long startedAt;
+
+        private final CountMinSketch clientSketch = new CountMinSketch(sketchDepth, sketchWidth);
+
+        private final CountMinSketch usernameSketch = new CountMinSketch(sketchDepth, sketchWidth);
+
+        private final ConcurrentMap<String, Offender> offenders = new ConcurrentHashMap<>();
+
+        private volatile long minOffenderAttempts;
+
+        private Generation(long startedAt) {
+            this.startedAt = startedAt;
+        }
+
+        private void offer(String clientIp, long attempts, String username) {
+            Offender offender = offenders.get(clientIp);
+            if (offender == null) {
+                if (offenders.size() >= maxOffenders && attempts <= minOffenderAttempts) {
+                    return;
+                }
+                synchronized (this) {
+                    offender = offenders.get(clientIp);
+                    if (offender == null) {
+                        if (offenders.size() >= maxOffenders && !evictLighterThan(attempts)) {
+                            return;
+                        }
+                        offender = new Offender(new HyperLogLog(usernamePrecision));
+                        offenders.put(clientIp, offender);
+                    }
+                }
+            }
+            offender.attempts = attempts;
+            if (username != null && !username.isEmpty()) {
+                offender.usernames.add(username);
+            }
+        }
+
+        private boolean evictLighterThan(long attempts) {
+            Map.Entry<String, Offender> lightest = null;
+            long secondLightest = Long.MAX_VALUE;
+            for (Map.Entry<String, Offender> entry : offenders.entrySet()) {
+                if (lightest == null || entry.getValue().attempts < lightest.getValue().attempts) {
+                    if (lightest != null) {
+                        secondLightest = lightest.getValue().attempts;
+                    }
+                    lightest = entry;
+                } else {
+                    secondLightest = Math.min(secondLightest, entry.getValue().attempts);
+                }
+            }
+            if (lightest == null || lightest.getValue().attempts >= attempts) {
+                minOffenderAttempts = lightest == null ? 0 : lightest.getValue().attempts;
+                return false;
+            }
+            offenders.remove(lightest.getKey());
+            minOffenderAttempts = Math.min(secondLightest, attempts);
+            return true;
+        }
+
+        private long distinctUsernames(String clientIp) {
+            Offender offender = offenders.get(clientIp);
+            return offender == null ? 0 : offender.usernames.estimate();
+        }
+    }
+
+    private static final class Offender {
+
+        private final HyperLogLog usernames;
+
+        private volatile long attempts;
+
+        private Offender(HyperLogLog usernames) {
+            this.usernames = usernames;
+        }
+    }
+}
@@ -1,64 +1,113 @@
 package org.example.service;
 
-import java.util.concurrent.ExecutionException;
+import java.util.OptionalLong;
 import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
 
+import org.example.config.security.ClientAddressResolver;
+import org.example.utils.ratelimit.LoginAttemptStore;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.CacheLoader;
-import com.google.common.cache.LoadingCache;
-
 import jakarta.servlet.http.HttpServletRequest;
 
+/**
+ * Exact counters come from the configured {@link LoginAttemptStore}. Only when the store was too full to
+ * track a key is it judged by {@link LoginAbuseTracker} estimates instead, which may overcount but never
+ * undercount.
+ */
 @Service
 public class LoginAttemptService {
 
-    private static final int MAX_ATTEMPT = 3;
-    private static final int BAN_DURATION = 5;
-    private final LoadingCache<String, Integer> attemptsCache;
+    private static final String CLIENT_KEY_PREFIX = "ip:";
+    private static final String USERNAME_KEY_PREFIX = "user:";
 
     private final HttpServletRequest request;
 
+    private final ClientAddressResolver clientAddressResolver;
+
+    private final LoginAttemptStore loginAttemptStore;
+
+    private final LoginAbuseTracker loginAbuseTracker;
+
+    private final int maxAttempts;
+
+    private final int maxUsernameAttempts;
+
+    private final int maxDistinctUsernames;
+
+    private final long windowMillis;
+
+    private final LongSupplier clock;
+
     @Autowired
-    public LoginAttemptService(HttpServletRequest request) {
-        super();
+    public LoginAttemptService(HttpServletRequest request, ClientAddressResolver clientAddressResolver,
+                               LoginAttemptStore loginAttemptStore, LoginAbuseTracker loginAbuseTracker,
+                               @Value("${security.login-attempts.max-attempts:3}") int maxAttempts,
+                               @Value("${security.login-attempts.max-username-attempts:10}") int maxUsernameAttempts,
+                               @Value("${security.login-attempts.max-distinct-usernames:20}") int maxDistinctUsernames,
+                               @Value("${security.login-attempts.window-seconds:300}") long windowSeconds) {
+        this(request, clientAddressResolver, loginAttemptStore, loginAbuseTracker, maxAttempts, maxUsernameAttempts,
+                maxDistinctUsernames, TimeUnit.SECONDS.toMillis(windowSeconds), System::currentTimeMillis);
+    }
+
+    LoginAttemptService(HttpServletRequest request, ClientAddressResolver clientAddressResolver,
+                        LoginAttemptStore loginAttemptStore, LoginAbuseTracker loginAbuseTracker, int maxAttempts, int maxUsernameAttempts,
+                        int maxDistinctUsernames, long windowMillis, LongSupplier clock) {
         this.request = request;
-        attemptsCache = CacheBuilder.newBuilder().expireAfterWrite(BAN_DURATION, TimeUnit.MINUTES)
-                .build(new CacheLoader<String, Integer>() {
-                    @Override
-                    public Integer load(final String key) {
-                        return 0;
-                    }
-                });
+        this.clientAddressResolver = clientAddressResolver;
+        this.loginAttemptStore = loginAttemptStore;
+        this.loginAbuseTracker = loginAbuseTracker;
+        this.maxAttempts = maxAttempts;
+        this.maxUsernameAttempts = maxUsernameAttempts;
+        this.maxDistinctUsernames = maxDistinctUsernames;
+        this.windowMillis = windowMillis;
+        this.clock = clock;
     }
 
     public void loginFailed() {
-        String key = getClientIP();
-        int attempts;
-        try {
-            attempts = attemptsCache.get(key);
-        } catch (final ExecutionException e) {
-            attempts = 0;
+        loginFailed(null);
+    }
+
+    public void loginFailed(String username) {
+        long now = clock.getAsLong();
+        String clientIp = getClientIP();
+        loginAbuseTracker.record(clientIp, username);
+        loginAttemptStore.increment(CLIENT_KEY_PREFIX + clientIp, now);
+        if (username != null && !username.isEmpty()) {
+            loginAttemptStore.increment(USERNAME_KEY_PREFIX + username, now);
         }
-        attempts++;
-        attemptsCache.put(key, attempts);
     }
 
     public boolean isBlocked() {
-        try {
-            return attemptsCache.get(getClientIP()) >= MAX_ATTEMPT;
-        } catch (final ExecutionException e) {
+        String clientIp = getClientIP();
+        OptionalLong attempts = loginAttemptStore.count(CLIENT_KEY_PREFIX + clientIp, clock.getAsLong());
+        long count = attempts.isPresent() ? attempts.getAsLong() : loginAbuseTracker.clientAttempts(clientIp);
+        return count >= maxAttempts || loginAbuseTracker.distinctUsernames(clientIp) >= maxDistinctUsernames;
+    }
+
+    public boolean isBlocked(String username) {
+        if (isBlocked()) {
+            return true;
+        }
+        if (username == null) {
             return false;
         }
+        OptionalLong attempts = loginAttemptStore.count(USERNAME_KEY_PREFIX + username, clock.getAsLong());
+        long count = attempts.isPresent() ? attempts.getAsLong() : loginAbuseTracker.usernameAttempts(username);
+        return count >= maxUsernameAttempts;
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public long getWindowMinutes() {
+        return TimeUnit.MILLISECONDS.toMinutes(windowMillis);
     }
 
     private String getClientIP() {
-        String xfHeader = request.getHeader("X-Forwarded-For");
-        if (xfHeader == null || xfHeader.isEmpty() || !xfHeader.contains(request.getRemoteAddr())) {
-            return request.getRemoteAddr();
-        }
-        return xfHeader.split(",")[0];
+        return clientAddressResolver.resolve(request);
     }
 }
@@ -0,0 +1,137 @@
+package org.example.service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.example.exception.credentials.PasswordHashingUnavailableException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs password hashing on a dedicated, size-capped pool so registration bursts cannot take over
+ * the servlet threads. The pool is kept private instead of being exposed as an {@code Executor}
+ * bean, which would make Spring Boot back off from its own application task executor. Bulk work
+ * shares at most {@code bulkMaxInFlight} slots of the pool and waits for one instead of being
+ * rejected, so single registrations and hash upgrades keep the rest of the queue.
+ */
+@Service
+@Slf4j
+public class PasswordHashingService {
+
+    private static final String THREAD_NAME_PREFIX = "password-hashing-";
+    private static final String METRIC_PREFIX = "password.hashing";
+    private static final String UNAVAILABLE_MESSAGE = "Registration is temporarily unavailable, please try again";
+
+    private final PasswordEncoder passwordEncoder;
+
+    private final ExecutorService executor;
+
+    private final long timeoutMillis;
+
+    private final Semaphore bulkPermits;
+
+    @Autowired
+    public PasswordHashingService(PasswordEncoder passwordEncoder,
+                                  @Value("${security.password-hashing.pool-size:0}") int poolSize,
+                                  @Value("${security.password-hashing.queue-capacity:100}") int queueCapacity,
+                                  @Value("${security.password-hashing.timeout-millis:5000}") long timeoutMillis,
+                                  @Value("${security.password-hashing.bulk-max-in-flight:0}") int bulkMaxInFlight,
+                                  MeterRegistry meterRegistry) {
+        this(passwordEncoder,
+                ExecutorServiceMetrics.monitor(meterRegistry, newExecutor(poolSize, queueCapacity), METRIC_PREFIX),
+                timeoutMillis,
+                bulkMaxInFlight > 0 ? bulkMaxInFlight : Math.max(1, queueCapacity / 2));
+    }
+
+    public PasswordHashingService(PasswordEncoder passwordEncoder, ExecutorService executor, long timeoutMillis,
+                                  int bulkMaxInFlight) {
+        this.passwordEncoder = passwordEncoder;
+        this.executor = executor;
+        this.timeoutMillis = timeoutMillis;
+        this.bulkPermits = new Semaphore(bulkMaxInFlight);
+    }
+
+    /**
+     * Waits up to the timeout for the hash. A hash the caller gave up on is cancelled, so a task still
+     * waiting in the queue is skipped instead of spending pool time on a request that already failed.
+     */
+    public String encode(String rawPassword) {
+        CompletableFuture<String> hash = encodeAsync(rawPassword);
+        try {
+            return hash.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            hash.cancel(false);
+            log.warn("Password hashing timed out after {} ms", timeoutMillis);
+            throw new PasswordHashingUnavailableException(UNAVAILABLE_MESSAGE);
+        } catch (InterruptedException e) {
+            hash.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingUnavailableException(UNAVAILABLE_MESSAGE);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    public CompletableFuture<String> encodeAsync(String rawPassword) {
+        try {
+            return CompletableFuture.supplyAsync(() -> passwordEncoder.encode(rawPassword), executor);
+        } catch (RejectedExecutionException e) {
+            log.warn("Password hashing queue is full, rejecting request");
+            throw new PasswordHashingUnavailableException(UNAVAILABLE_MESSAGE);
+        }
+    }
+
+    /**
+     * Like {@link #encodeAsync} but waits up to the timeout for one of the bulk slots first; the slot is
+     * returned when the hash completes.
+     */
+    public CompletableFuture<String> encodeBulkAsync(String rawPassword) {
+        try {
+            if (!bulkPermits.tryAcquire(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                log.warn("No bulk password hashing slot became free within {} ms", timeoutMillis);
+                throw new PasswordHashingUnavailableException(UNAVAILABLE_MESSAGE);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingUnavailableException(UNAVAILABLE_MESSAGE);
+        }
+        try {
+            return encodeAsync(rawPassword).whenComplete((hash, failure) -> bulkPermits.release());
+        } catch (PasswordHashingUnavailableException e) {
+            bulkPermits.release();
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private static ExecutorService newExecutor(int poolSize, int queueCapacity) {
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        return new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory(THREAD_NAME_PREFIX),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+}
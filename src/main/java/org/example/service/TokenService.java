@@ -1,41 +1,135 @@
 package org.example.service;
 
 import java.time.Instant;
-import java.time.temporal.ChronoUnit;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
+import org.example.config.security.JwtKeyManager;
+import org.example.config.security.RevocationCheckingJwtDecoder;
+import org.example.config.security.TokenRevocationList;
+import org.example.dto.security.TokenDTO;
+import org.example.exception.security.InvalidTokenException;
+import org.example.model.User;
+import org.example.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
-import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.oauth2.jwt.JwtClaimsSet;
 import org.springframework.security.oauth2.jwt.JwtEncoder;
 import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.JwtException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class TokenService {
 
-    private static final int EXPIRATION_DAYS_FOR_TOKEN = 7;
+    public static final String TOKEN_TYPE_CLAIM = "token_type";
+    public static final String ACCESS_TOKEN_TYPE = "access";
+    public static final String REFRESH_TOKEN_TYPE = "refresh";
+
+    private static final String SCOPE_CLAIM = "scope";
+    private static final String ISSUER = "self";
+    private static final String BEARER = "Bearer";
 
     @Autowired
     private JwtEncoder encoder;
 
+    @Autowired
+    private JwtKeyManager jwtKeyManager;
+
+    @Autowired
+    private RevocationCheckingJwtDecoder jwtDecoder;
+
+    @Autowired
+    private TokenRevocationList tokenRevocationList;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Value("${security.jwt.access-token-ttl-seconds:900}")
+    private long accessTokenTtlSeconds;
+
+    @Value("${security.jwt.refresh-token-ttl-seconds:604800}")
+    private long refreshTokenTtlSeconds;
+
     public String generateToken(Authentication authentication) {
+        return encode(authentication.getName(), scopeOf(authentication), ACCESS_TOKEN_TYPE, accessTokenTtlSeconds);
+    }
+
+    public TokenDTO generateTokens(Authentication authentication) {
+        return issueTokens(authentication.getName(), scopeOf(authentication));
+    }
+
+    /**
+     * Exchanges a refresh token for a new token pair. The presented refresh token is redeemed by revoking
+     * it, and only the caller whose revocation inserts the row gets new tokens, so each one can be used
+     * once even across nodes. This is the only token path that reads the database.
+     */
+    @Transactional
+    public TokenDTO refresh(String refreshToken) {
+        Jwt jwt = decodeRefreshToken(refreshToken);
+        userRepository.findByUsername(jwt.getSubject())
+                .filter(User::isActive)
+                .orElseThrow(() -> new InvalidTokenException("User is not active"));
+        if (!tokenRevocationList.revoke(jwt.getId(), jwt.getExpiresAt())) {
+            throw new InvalidTokenException("Refresh token has been revoked");
+        }
+        return issueTokens(jwt.getSubject(), jwt.getClaimAsString(SCOPE_CLAIM));
+    }
+
+    @Transactional
+    public void revoke(Jwt accessToken, String refreshToken, String username) {
+        if (accessToken != null && accessToken.getId() != null) {
+            tokenRevocationList.revoke(accessToken.getId(), accessToken.getExpiresAt());
+        }
+        if (refreshToken != null) {
+            Jwt jwt = decodeRefreshToken(refreshToken);
+            if (!jwt.getSubject().equals(username)) {
+                throw new InvalidTokenException("Refresh token belongs to another user");
+            }
+            tokenRevocationList.revoke(jwt.getId(), jwt.getExpiresAt());
+        }
+    }
+
+    private TokenDTO issueTokens(String subject, String scope) {
+        return TokenDTO.builder()
+                .accessToken(encode(subject, scope, ACCESS_TOKEN_TYPE, accessTokenTtlSeconds))
+                .refreshToken(encode(subject, scope, REFRESH_TOKEN_TYPE, refreshTokenTtlSeconds))
+                .tokenType(BEARER)
+                .expiresIn(accessTokenTtlSeconds)
+                .build();
+    }
+
+    private Jwt decodeRefreshToken(String refreshToken) {
+        try {
+            return jwtDecoder.decodeRefreshToken(refreshToken);
+        } catch (JwtException e) {
+            throw new InvalidTokenException("Invalid refresh token");
+        }
+    }
+
+    private String encode(String subject, String scope, String tokenType, long ttlSeconds) {
         Instant now = Instant.now();
-        String scope = authentication.getAuthorities().stream()
-                .map(GrantedAuthority::getAuthority)
-                .filter(authority -> !authority.startsWith("ROLE"))
-                .collect(Collectors.joining(" "));
         JwtClaimsSet claims = JwtClaimsSet.builder()
-                .issuer("self")
+                .id(UUID.randomUUID().toString())
+                .issuer(ISSUER)
                 .issuedAt(now)
-                .expiresAt(now.plus(EXPIRATION_DAYS_FOR_TOKEN, ChronoUnit.DAYS))
-                .subject(authentication.getName())
-                .claim("scope", scope)
+                .expiresAt(now.plusSeconds(ttlSeconds))
+                .subject(subject)
+                .claim(SCOPE_CLAIM, scope)
+                .claim(TOKEN_TYPE_CLAIM, tokenType)
                 .build();
-        JwtEncoderParameters encoderParameters = JwtEncoderParameters.from(JwsHeader.with(MacAlgorithm.HS512).build(), claims);
+        JwtEncoderParameters encoderParameters = JwtEncoderParameters.from(jwtKeyManager.jwsHeader(), claims);
         return this.encoder.encode(encoderParameters).getTokenValue();
     }
+
+    private static String scopeOf(Authentication authentication) {
+        return authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .filter(authority -> !authority.startsWith("ROLE"))
+                .collect(Collectors.joining(" "));
+    }
 }
@@ -5,7 +5,10 @@ import java.util.List;
 import java.util.Optional;
 
 import org.example.dto.credentials.CredentialsUpdateDTO;
+import org.example.dto.registration.BulkRegistrationDTO;
+import org.example.dto.registration.RegistrationRequestDTO;
 import org.example.dto.trainee.TraineeUpdateDTO;
+import org.example.event.UserAccountChangedEvent;
 import org.example.exception.credentials.IdenticalPasswordException;
 import org.example.exception.credentials.IncorrectPasswordException;
 import org.example.exception.notfound.TraineeNotFoundException;
@@ -14,7 +17,9 @@ import org.example.model.User;
 import org.example.repository.TraineeRepository;
 import org.example.utils.credentials.CredentialsGenerator;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
@@ -29,15 +34,23 @@ public class TraineeService {
 
     private final CredentialsGenerator generator;
 
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
+
+    private final BulkRegistrationService bulkRegistrationService;
+
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
     public TraineeService(TraineeRepository traineeRepository,
                           CredentialsGenerator credentialsGenerator,
-                          PasswordEncoder passwordEncoder) {
+                          PasswordHashingService passwordHashingService,
+                          BulkRegistrationService bulkRegistrationService,
+                          ApplicationEventPublisher eventPublisher) {
         this.traineeRepository = traineeRepository;
         this.generator = credentialsGenerator;
-        this.passwordEncoder = passwordEncoder;
+        this.passwordHashingService = passwordHashingService;
+        this.bulkRegistrationService = bulkRegistrationService;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional(propagation = Propagation.SUPPORTS)
@@ -46,7 +59,7 @@ public class TraineeService {
         Trainee newTrainee = buildNewTrainee(dateOfBirth, address, newUser);
         String username = generator.generateUsername(newTrainee.getUser());
         String password = generator.generateRandomPassword();
-        String encodedPassword = passwordEncoder.encode(password);
+        String encodedPassword = passwordHashingService.encode(password);
         newTrainee.setUsername(username);
         newTrainee.setPassword(encodedPassword);
         Trainee savedTrainee = traineeRepository.save(newTrainee);
@@ -55,9 +68,21 @@ public class TraineeService {
         return savedTrainee;
     }
 
+    /**
+     * Not transactional on purpose: every chunk of trainees is committed on its own by {@code saveAll}.
+     */
+    public BulkRegistrationDTO createTrainees(List<RegistrationRequestDTO> requests) {
+        BulkRegistrationDTO registration = bulkRegistrationService.register(requests, request -> null,
+                (request, user) -> buildNewTrainee(request.getDateOfBirth(), request.getAddress(), user),
+                traineeRepository::saveAll);
+        log.info("Bulk trainee registration created {} and rejected {} rows", registration.getCreated(),
+                registration.getFailed());
+        return registration;
+    }
+
     @Transactional(readOnly = true)
     public Trainee getTraineeByUsername(String username) {
-        Trainee trainee = traineeRepository.findByUserUsername(username)
+        Trainee trainee = traineeRepository.findWithTrainersByUserUsername(username)
                 .orElseThrow(() -> new TraineeNotFoundException("Trainee not found"));
         log.info("Trainee successfully retrieved");
         return trainee;
@@ -73,6 +98,7 @@ public class TraineeService {
         }
         trainee.setPassword(credentialsUpdateDTO.getNewPassword());
         Trainee updatedTrainee = traineeRepository.save(trainee);
+        eventPublisher.publishEvent(new UserAccountChangedEvent(this, trainee.getUsername()));
         log.info("Password successfully changed");
         return updatedTrainee;
     }
@@ -86,6 +112,7 @@ public class TraineeService {
         trainee.setAddress(traineeUpdateDTO.getAddress());
         trainee.getUser().setActive(traineeUpdateDTO.isActive());
         Trainee updatedTrainee = traineeRepository.save(trainee);
+        eventPublisher.publishEvent(new UserAccountChangedEvent(this, trainee.getUsername()));
         log.info("Trainee successfully updated");
         return updatedTrainee;
     }
@@ -96,6 +123,7 @@ public class TraineeService {
                 .orElseThrow(() -> new TraineeNotFoundException("Trainee not found"));
         trainee.getUser().setActive(isActive);
         Trainee updatedTrainee = traineeRepository.save(trainee);
+        eventPublisher.publishEvent(new UserAccountChangedEvent(this, username));
         log.info("Activation status successfully updated");
         return Optional.ofNullable(updatedTrainee).isPresent();
     }
@@ -104,6 +132,7 @@ public class TraineeService {
     public boolean deleteTrainee(String username) {
         boolean deletionResult = traineeRepository.deleteByUserUsername(username);
         if (deletionResult) {
+            eventPublisher.publishEvent(new UserAccountChangedEvent(this, username));
             log.info("Trainee successfully deleted");
             return true;
         } else {
@@ -113,9 +142,9 @@ public class TraineeService {
     }
 
     @Transactional(readOnly = true)
-    public List<Trainee> getAllTrainees() {
-        List<Trainee> trainees = traineeRepository.findAll();
-        log.info("Successfully retrieved all Trainees");
+    public Page<Trainee> getAllTrainees(Pageable pageable) {
+        Page<Trainee> trainees = traineeRepository.findAll(pageable);
+        log.info("Successfully retrieved page of Trainees");
         return trainees;
     }
 
@@ -1,12 +1,21 @@
 package org.example.service;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.example.dto.credentials.CredentialsUpdateDTO;
+import org.example.dto.registration.BulkRegistrationDTO;
+import org.example.dto.registration.RegistrationRequestDTO;
 import org.example.dto.trainer.TrainerListDTO;
 import org.example.dto.trainer.TrainerUpdateDTO;
 import org.example.enums.TrainingTypeName;
+import org.example.event.UserAccountChangedEvent;
 import org.example.exception.credentials.IdenticalPasswordException;
 import org.example.exception.credentials.IncorrectPasswordException;
 import org.example.exception.notfound.TrainerNotFoundException;
@@ -20,7 +29,9 @@ import org.example.repository.TrainerRepository;
 import org.example.repository.TrainingTypeRepository;
 import org.example.utils.credentials.CredentialsGenerator;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
@@ -39,16 +50,23 @@ public class TrainerService {
 
     private final TrainingTypeRepository trainingTypeRepository;
 
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
+
+    private final BulkRegistrationService bulkRegistrationService;
+
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
     public TrainerService(TrainerRepository trainerRepository, TraineeRepository traineeRepository,
-                          CredentialsGenerator credentialsGenerator, TrainingTypeRepository trainingTypeRepository, PasswordEncoder passwordEncoder) {
+                          CredentialsGenerator credentialsGenerator, TrainingTypeRepository trainingTypeRepository, PasswordHashingService passwordHashingService,
+                          BulkRegistrationService bulkRegistrationService, ApplicationEventPublisher eventPublisher) {
         this.trainerRepository = trainerRepository;
         this.traineeRepository = traineeRepository;
         this.generator = credentialsGenerator;
         this.trainingTypeRepository = trainingTypeRepository;
-        this.passwordEncoder = passwordEncoder;
+        this.passwordHashingService = passwordHashingService;
+        this.bulkRegistrationService = bulkRegistrationService;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional(propagation = Propagation.SUPPORTS)
@@ -59,18 +77,35 @@ public class TrainerService {
         Trainer newTrainer = buildNewTrainer(newUser, trainingType);
         String username = generator.generateUsername(newTrainer.getUser());
         String password = generator.generateRandomPassword();
-        String encodedPassword = passwordEncoder.encode(password);
+        String encodedPassword = passwordHashingService.encode(password);
         newTrainer.setUsername(username);
-        newTrainer.setPassword(passwordEncoder.encode(encodedPassword));
+        newTrainer.setPassword(encodedPassword);
         Trainer savedTrained = trainerRepository.save(newTrainer);
         log.info("Trainer successfully saved");
         savedTrained.setPassword(password);
         return savedTrained;
     }
 
+    /**
+     * Not transactional on purpose: every chunk of trainers is committed on its own by {@code saveAll}.
+     */
+    public BulkRegistrationDTO createTrainers(List<RegistrationRequestDTO> requests) {
+        Map<TrainingTypeName, TrainingType> trainingTypes = trainingTypeRepository.findAll().stream()
+                .collect(Collectors.toMap(TrainingType::getTrainingTypeName, Function.identity()));
+        BulkRegistrationDTO registration = bulkRegistrationService.register(requests,
+                request -> request.getSpecialization() == null || !trainingTypes.containsKey(request.getSpecialization())
+                        ? "Training type not found"
+                        : null,
+                (request, user) -> buildNewTrainer(user, trainingTypes.get(request.getSpecialization())),
+                trainerRepository::saveAll);
+        log.info("Bulk trainer registration created {} and rejected {} rows", registration.getCreated(),
+                registration.getFailed());
+        return registration;
+    }
+
     @Transactional(readOnly = true)
     public Trainer getTrainerByUsername(String username) {
-        Trainer trainer = trainerRepository.findByUserUsername(username)
+        Trainer trainer = trainerRepository.findWithTraineesByUserUsername(username)
                 .orElseThrow(() -> new TrainerNotFoundException("Trainer not found"));
         log.info("Successfully retrieved trainer by username");
         return trainer;
@@ -86,6 +121,7 @@ public class TrainerService {
         }
         trainer.setPassword(credentialsUpdateDTO.getNewPassword());
         Trainer updatedTrainer = trainerRepository.save(trainer);
+        eventPublisher.publishEvent(new UserAccountChangedEvent(this, trainer.getUsername()));
         log.info("Password successfully updated");
         return updatedTrainer;
     }
@@ -100,6 +136,7 @@ public class TrainerService {
         trainer.setSpecialization(trainingType);
         trainer.getUser().setActive(trainerUpdateDTO.isActive());
         Trainer updatedTrainer = trainerRepository.save(trainer);
+        eventPublisher.publishEvent(new UserAccountChangedEvent(this, trainer.getUsername()));
         log.info("Trainer successfully updated");
         return updatedTrainer;
     }
@@ -109,6 +146,7 @@ public class TrainerService {
                 .orElseThrow(() -> new TrainerNotFoundException("Trainer type not found"));
         trainer.getUser().setActive(isActive);
         Trainer updatedTrainer = trainerRepository.save(trainer);
+        eventPublisher.publishEvent(new UserAccountChangedEvent(this, username));
         log.info("Activation status successfully updated");
         return Optional.ofNullable(updatedTrainer).isPresent();
     }
@@ -117,6 +155,7 @@ public class TrainerService {
     public boolean deleteTrainer(String username) {
         boolean deletionResult = trainerRepository.deleteByUserUsername(username);
         if (deletionResult) {
+            eventPublisher.publishEvent(new UserAccountChangedEvent(this, username));
             log.info("Trainer successfully deleted");
             return true;
         } else {
@@ -133,23 +172,29 @@ public class TrainerService {
     }
 
     @Transactional(readOnly = true)
-    public List<Trainer> getAllTrainers() {
-        List<Trainer> trainers = trainerRepository.findAll();
-        log.info("Successfully retrieved all trainers");
+    public Page<Trainer> getAllTrainers(Pageable pageable) {
+        Page<Trainer> trainers = trainerRepository.findAll(pageable);
+        log.info("Successfully retrieved page of trainers");
         return trainers;
     }
 
     @Transactional
     public List<Trainer> updateTraineeTrainerList(String traineeUsername, TrainerListDTO trainerListDTO) {
-        Trainee trainee = traineeRepository.findByUserUsername(traineeUsername)
+        Trainee trainee = traineeRepository.findWithTrainersByUserUsername(traineeUsername)
                 .orElseThrow(() -> new TrainerNotFoundException("Trainer not found"));
-        List<Trainer> trainers = trainerRepository.findAll().stream()
-                .filter(trainer -> trainerListDTO.getTrainerUsernameList().contains(trainer.getUsername()))
+        Set<String> requestedUsernames = new HashSet<>(trainerListDTO.getTrainerUsernameList());
+        List<Trainer> trainerList = new ArrayList<>(trainee.getTrainerList());
+        Set<Long> assignedTrainerIds = trainerList.stream()
+                .map(Trainer::getId)
+                .collect(Collectors.toSet());
+        List<Trainer> missingTrainers = requestedUsernames.isEmpty() ? List.of()
+                : trainerRepository.findByUserUsernameIn(requestedUsernames).stream()
+                .filter(trainer -> assignedTrainerIds.add(trainer.getId()))
                 .toList();
-        trainee.getTrainerList().addAll(trainers);
-        Trainee updatedTrainee = traineeRepository.save(trainee);
+        traineeRepository.addTrainerLinks(trainee.getId(), missingTrainers.stream().map(Trainer::getId).toList());
+        trainerList.addAll(missingTrainers);
         log.info("Successfully updated trainee's trainers list");
-        return updatedTrainee.getTrainerList();
+        return trainerList;
     }
 
     private User buildNewUser(String firstName, String lastName) {
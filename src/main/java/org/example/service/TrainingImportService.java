@@ -0,0 +1,216 @@
+package org.example.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.example.dto.training.TrainingCreateDTO;
+import org.example.dto.training.TrainingImportErrorDTO;
+import org.example.dto.training.TrainingImportProgressDTO;
+import org.example.dto.training.TrainingParticipantDTO;
+import org.example.enums.TrainingTypeName;
+import org.example.exception.validation.InvalidBulkRequestException;
+import org.example.model.Trainee;
+import org.example.model.Trainer;
+import org.example.model.Training;
+import org.example.model.TrainingType;
+import org.example.repository.TraineeRepository;
+import org.example.repository.TraineeTrainerLink;
+import org.example.repository.TrainerRepository;
+import org.example.repository.TrainingRepository;
+import org.example.repository.TrainingTypeRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.google.common.collect.Iterables;
+
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Imports trainings in bulk. Trainee, trainer and training type lookups are resolved once for the whole
+ * import and rows are validated in parallel against them. Valid rows are then written chunk by chunk, each
+ * chunk in its own transaction: trainings through Hibernate's JDBC batching and missing trainer links with
+ * a JDBC batch, without loading or mutating the association lists that {@code createTraining} touches.
+ */
+@Service
+@Slf4j
+public class TrainingImportService {
+
+    private static final int LOOKUP_PARTITION_SIZE = 1000;
+    private static final String CHUNK_FAILED = "Row could not be saved, please retry this row";
+
+    private final TrainingRepository trainingRepository;
+
+    private final TraineeRepository traineeRepository;
+
+    private final TrainerRepository trainerRepository;
+
+    private final TrainingTypeRepository trainingTypeRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final EntityManager entityManager;
+
+    private final int chunkSize;
+
+    private final int maxRows;
+
+    @Autowired
+    public TrainingImportService(TrainingRepository trainingRepository, TraineeRepository traineeRepository,
+                                 TrainerRepository trainerRepository, TrainingTypeRepository trainingTypeRepository,
+                                 TransactionTemplate transactionTemplate, EntityManager entityManager,
+                                 @Value("${training.import.chunk-size:500}") int chunkSize,
+                                 @Value("${training.import.max-rows:50000}") int maxRows) {
+        this.trainingRepository = trainingRepository;
+        this.traineeRepository = traineeRepository;
+        this.trainerRepository = trainerRepository;
+        this.trainingTypeRepository = trainingTypeRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.entityManager = entityManager;
+        this.chunkSize = chunkSize;
+        this.maxRows = maxRows;
+    }
+
+    public void checkImportSize(int rows) {
+        if (rows == 0) {
+            throw new InvalidBulkRequestException("At least one row must be submitted");
+        }
+        if (rows > maxRows) {
+            throw new InvalidBulkRequestException("At most " + maxRows + " rows can be submitted at once");
+        }
+    }
+
+    /**
+     * Reports progress to {@code progressListener} after every chunk and returns the final totals.
+     */
+    public TrainingImportProgressDTO importTrainings(List<TrainingCreateDTO> rows,
+                                                    Consumer<TrainingImportProgressDTO> progressListener) {
+        checkImportSize(rows.size());
+        Map<String, Long> traineeIds = toIdMap(rows, TrainingCreateDTO::getTraineeUsername,
+                traineeRepository::findParticipantsByUsernames);
+        Map<String, Long> trainerIds = toIdMap(rows, TrainingCreateDTO::getTrainerUsername,
+                trainerRepository::findParticipantsByUsernames);
+        Map<TrainingTypeName, Long> trainingTypeIds = trainingTypeRepository.findAll().stream()
+                .collect(Collectors.toMap(TrainingType::getTrainingTypeName, TrainingType::getId));
+        ImportRow[] validatedRows = IntStream.range(0, rows.size())
+                .parallel()
+                .mapToObj(i -> validate(rows.get(i), traineeIds, trainerIds, trainingTypeIds))
+                .toArray(ImportRow[]::new);
+        Set<TraineeTrainerLink> knownLinks = new HashSet<>(
+                traineeRepository.findLinksByTraineeIds(new HashSet<>(traineeIds.values())));
+
+        int imported = 0;
+        int failed = 0;
+        TrainingImportProgressDTO progress = null;
+        for (int start = 0; start < rows.size(); start += chunkSize) {
+            int end = Math.min(start + chunkSize, rows.size());
+            List<TrainingImportErrorDTO> errors = new ArrayList<>();
+            List<Integer> accepted = new ArrayList<>(end - start);
+            Set<TraineeTrainerLink> newLinks = new LinkedHashSet<>();
+            for (int i = start; i < end; i++) {
+                ImportRow row = validatedRows[i];
+                if (row.error() != null) {
+                    errors.add(new TrainingImportErrorDTO(i + 1, row.error()));
+                    continue;
+                }
+                accepted.add(i);
+                TraineeTrainerLink link = new TraineeTrainerLink(row.traineeId(), row.trainerId());
+                if (!knownLinks.contains(link)) {
+                    newLinks.add(link);
+                }
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> saveChunk(accepted, validatedRows, newLinks));
+                knownLinks.addAll(newLinks);
+                imported += accepted.size();
+            } catch (DataAccessException | TransactionException e) {
+                log.warn("Training import chunk starting at row {} could not be saved", start + 1, e);
+                accepted.forEach(i -> errors.add(new TrainingImportErrorDTO(i + 1, CHUNK_FAILED)));
+                errors.sort(Comparator.comparingInt(TrainingImportErrorDTO::getRow));
+            }
+            failed += errors.size();
+            progress = new TrainingImportProgressDTO(end, rows.size(), imported, failed, errors);
+            progressListener.accept(progress);
+        }
+        log.info("Training import finished: {} imported, {} failed", imported, failed);
+        return progress;
+    }
+
+    private void saveChunk(List<Integer> accepted, ImportRow[] validatedRows, Collection<TraineeTrainerLink> newLinks) {
+        List<Training> trainings = new ArrayList<>(accepted.size());
+        for (int i : accepted) {
+            ImportRow row = validatedRows[i];
+            trainings.add(Training.builder()
+                    .trainee(entityManager.getReference(Trainee.class, row.traineeId()))
+                    .trainer(entityManager.getReference(Trainer.class, row.trainerId()))
+                    .trainingType(entityManager.getReference(TrainingType.class, row.trainingTypeId()))
+                    .trainingName(row.trainingTypeName().name())
+                    .trainingDate(row.trainingDate())
+                    .trainingDuration(row.trainingDuration())
+                    .build());
+        }
+        trainingRepository.saveAll(trainings);
+        traineeRepository.addLinks(newLinks);
+    }
+
+    private ImportRow validate(TrainingCreateDTO row, Map<String, Long> traineeIds, Map<String, Long> trainerIds,
+                               Map<TrainingTypeName, Long> trainingTypeIds) {
+        Long traineeId = row.getTraineeUsername() == null ? null : traineeIds.get(row.getTraineeUsername());
+        Long trainerId = row.getTrainerUsername() == null ? null : trainerIds.get(row.getTrainerUsername());
+        Long trainingTypeId = row.getTrainingTypeName() == null ? null : trainingTypeIds.get(row.getTrainingTypeName());
+        String error = null;
+        if (traineeId == null) {
+            error = "Trainee not found";
+        } else if (trainerId == null) {
+            error = "Trainer not found";
+        } else if (trainingTypeId == null) {
+            error = "Training type not found";
+        } else if (row.getTrainingDate() == null) {
+            error = "Training date is required";
+        } else if (row.getTrainingDuration() <= 0) {
+            error = "Training duration must be positive";
+        }
+        return error != null
+                ? ImportRow.rejected(error)
+                : new ImportRow(traineeId, trainerId, trainingTypeId, row.getTrainingTypeName(),
+                row.getTrainingDate(), row.getTrainingDuration(), null);
+    }
+
+    private static Map<String, Long> toIdMap(List<TrainingCreateDTO> rows, Function<TrainingCreateDTO, String> username,
+                                             Function<Collection<String>, List<TrainingParticipantDTO>> lookup) {
+        Set<String> usernames = rows.stream()
+                .map(username)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<String, Long> ids = new HashMap<>(usernames.size());
+        for (List<String> partition : Iterables.partition(usernames, LOOKUP_PARTITION_SIZE)) {
+            lookup.apply(partition).forEach(participant -> ids.put(participant.getUsername(), participant.getId()));
+        }
+        return ids;
+    }
+
+    private record ImportRow(long traineeId, long trainerId, long trainingTypeId, TrainingTypeName trainingTypeName,
+                             Date trainingDate, int trainingDuration, String error) {
+
+        static ImportRow rejected(String error) {
+            return new ImportRow(0, 0, 0, null, null, 0, error);
+        }
+    }
+}
@@ -2,10 +2,17 @@ package org.example.service;
 
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
+import org.example.dto.page.CursorPageDTO;
 import org.example.dto.training.TrainingCreateDTO;
+import org.example.dto.training.TrainingExportDTO;
+import org.example.dto.training.TrainingHistoryDTO;
+import org.example.enums.TrainingTypeName;
 import org.example.exception.date.IllegalDateArgumentException;
 import org.example.exception.notfound.TraineeNotFoundException;
 import org.example.exception.notfound.TrainerNotFoundException;
@@ -19,7 +26,12 @@ import org.example.repository.TraineeRepository;
 import org.example.repository.TrainerRepository;
 import org.example.repository.TrainingRepository;
 import org.example.repository.TrainingTypeRepository;
+import org.example.utils.pagination.TrainingCursor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -39,12 +51,20 @@ public class TrainingService {
 
     private final TrainingTypeRepository trainingTypeRepository;
 
+    private final int defaultPageSize;
+
+    private final int maxPageSize;
+
     @Autowired
-    public TrainingService(TrainingRepository trainingRepository, TraineeRepository traineeRepository, TrainerRepository trainerRepository, TrainingTypeRepository trainingTypeRepository) {
+    public TrainingService(TrainingRepository trainingRepository, TraineeRepository traineeRepository, TrainerRepository trainerRepository, TrainingTypeRepository trainingTypeRepository,
+                           @Value("${training.history.default-page-size:20}") int defaultPageSize,
+                           @Value("${training.history.max-page-size:100}") int maxPageSize) {
         this.trainingRepository = trainingRepository;
         this.traineeRepository = traineeRepository;
         this.trainerRepository = trainerRepository;
         this.trainingTypeRepository = trainingTypeRepository;
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
     }
 
     @Transactional
@@ -100,33 +120,68 @@ public class TrainingService {
     }
 
     @Transactional(readOnly = true)
-    public List<Training> getTraineeTrainingList(String username,
-                                                 Date periodFrom,
-                                                 Date periodTo,
-                                                 String trainerName,
-                                                 String trainingTypeName) {
+    public CursorPageDTO<TrainingHistoryDTO> getTraineeTrainingList(String username,
+                                                                    Date periodFrom,
+                                                                    Date periodTo,
+                                                                    String trainerName,
+                                                                    TrainingTypeName trainingTypeName,
+                                                                    String cursor,
+                                                                    Integer pageSize) {
         validateDates(periodFrom, periodTo);
-        List<Training> trainingList = trainingRepository.findByTraineeUserUsernameAndTrainingDateBetweenAndTrainerUserUsernameAndTrainingTypeTrainingTypeName(username, periodFrom, periodTo,
-                trainerName, trainingTypeName);
+        TrainingCursor after = resolveCursor(cursor, periodFrom);
+        int size = resolvePageSize(pageSize);
+        List<TrainingHistoryDTO> trainingList = trainingRepository.findTraineeTrainingHistory(username, periodFrom,
+                periodTo, trainerName, trainingTypeName, after.trainingDate(), after.id(), Limit.of(size + 1));
         log.info("Successfully retrieved trainee's training list");
-        return trainingList;
+        return toPage(trainingList, size);
     }
 
     @Transactional(readOnly = true)
-    public List<Training> getTrainerTrainingList(String username,
-                                                 Date periodFrom,
-                                                 Date periodTo,
-                                                 String traineeName) {
+    public CursorPageDTO<TrainingHistoryDTO> getTrainerTrainingList(String username,
+                                                                    Date periodFrom,
+                                                                    Date periodTo,
+                                                                    String traineeName,
+                                                                    String cursor,
+                                                                    Integer pageSize) {
         validateDates(periodFrom, periodTo);
-        List<Training> trainingList = trainingRepository.findByTrainerUserUsernameAndTrainingDateBetweenAndTraineeUserUsername(username, periodFrom, periodTo, traineeName);
+        TrainingCursor after = resolveCursor(cursor, periodFrom);
+        int size = resolvePageSize(pageSize);
+        List<TrainingHistoryDTO> trainingList = trainingRepository.findTrainerTrainingHistory(username, periodFrom,
+                periodTo, traineeName, after.trainingDate(), after.id(), Limit.of(size + 1));
         log.info("Successfully retrieved trainer's training list");
-        return trainingList;
+        return toPage(trainingList, size);
+    }
+
+    public void checkExportPeriod(Date periodFrom, Date periodTo) {
+        if (periodFrom != null && periodTo != null) {
+            validateDates(periodFrom, periodTo);
+        }
+    }
+
+    /**
+     * Streams matching rows to {@code consumer} in (trainingDate, id) order without collecting them.
+     */
+    @Transactional(readOnly = true)
+    public long exportTrainings(String trainerName, Date periodFrom, Date periodTo,
+                                Consumer<TrainingExportDTO> consumer) {
+        checkExportPeriod(periodFrom, periodTo);
+        long rows = 0;
+        try (Stream<TrainingExportDTO> trainings = trainingRepository.streamTrainingExport(trainerName, periodFrom,
+                periodTo)) {
+            Iterator<TrainingExportDTO> iterator = trainings.iterator();
+            while (iterator.hasNext()) {
+                consumer.accept(iterator.next());
+                rows++;
+            }
+        }
+        log.info("Exported {} trainings", rows);
+        return rows;
     }
 
     @Transactional(readOnly = true)
-    public List<Training> getAllTrainings() {
-        List<Training> trainings = trainingRepository.findAll();
-        log.info("Retrieved all trainings successfully");
+    public Page<Training> getAllTrainings(Pageable pageable) {
+        Page<Training> trainings = trainingRepository.findAll(pageable);
+        log.info("Retrieved page of trainings successfully");
         return trainings;
     }
 
@@ -137,10 +192,30 @@ public class TrainingService {
         return trainingTypes;
     }
 
+    private TrainingCursor resolveCursor(String cursor, Date periodFrom) {
+        return cursor == null || cursor.isEmpty() ? TrainingCursor.before(periodFrom) : TrainingCursor.decode(cursor);
+    }
+
+    private int resolvePageSize(Integer pageSize) {
+        if (pageSize == null) {
+            return defaultPageSize;
+        }
+        return Math.max(1, Math.min(pageSize, maxPageSize));
+    }
+
+    private CursorPageDTO<TrainingHistoryDTO> toPage(List<TrainingHistoryDTO> rows, int size) {
+        if (rows.size() <= size) {
+            return new CursorPageDTO<>(rows, null);
+        }
+        List<TrainingHistoryDTO> content = rows.subList(0, size);
+        TrainingHistoryDTO last = content.get(size - 1);
+        return new CursorPageDTO<>(content, new TrainingCursor(last.getTrainingDate(), last.getId()).encode());
+    }
+
     private void validateDates(Date periodFrom, Date periodTo) {
         if (periodTo.before(periodFrom)) {
             String periodFromStr = SIMPLE_DATE_FORMAT.format(periodFrom);
-            String periodToStr = SIMPLE_DATE_FORMAT.format(toString());
+            String periodToStr = SIMPLE_DATE_FORMAT.format(periodTo);
 
             String errorMessage = String.format(
                     "'Period to' date %s must be after 'period from' date %s",
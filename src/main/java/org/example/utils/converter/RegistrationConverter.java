@@ -0,0 +1,58 @@
+package org.example.utils.converter;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import org.example.dto.registration.RegistrationRequestDTO;
+import org.example.enums.TrainingTypeName;
+import org.example.exception.validation.InvalidBulkRequestException;
+import org.example.utils.csv.CsvReader;
+
+public class RegistrationConverter {
+
+    private RegistrationConverter() {
+    }
+
+    public static List<RegistrationRequestDTO> convertFromCsv(String csv) {
+        List<Map<String, String>> rows = CsvReader.read(csv);
+        List<RegistrationRequestDTO> requests = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            Map<String, String> row = rows.get(i);
+            requests.add(RegistrationRequestDTO.builder()
+                    .firstName(row.get("firstName"))
+                    .lastName(row.get("lastName"))
+                    .dateOfBirth(parseDate(row.get("dateOfBirth"), i + 1))
+                    .address(row.get("address"))
+                    .specialization(parseSpecialization(row.get("specialization"), i + 1))
+                    .build());
+        }
+        return requests;
+    }
+
+    private static Date parseDate(String value, int row) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Date.from(LocalDate.parse(value).atStartOfDay(ZoneOffset.UTC).toInstant());
+        } catch (DateTimeParseException e) {
+            throw new InvalidBulkRequestException("Row " + row + ": dateOfBirth must be formatted as yyyy-MM-dd");
+        }
+    }
+
+    private static TrainingTypeName parseSpecialization(String value, int row) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return TrainingTypeName.valueOf(value.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new InvalidBulkRequestException("Row " + row + ": unknown specialization '" + value + "'");
+        }
+    }
+}
@@ -1,9 +1,22 @@
 package org.example.utils.converter;
 
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
+import java.util.Map;
 
+import org.example.dto.page.CursorPageDTO;
+import org.example.dto.training.TrainingCreateDTO;
 import org.example.dto.training.TrainingDTO;
+import org.example.dto.training.TrainingHistoryDTO;
+import org.example.enums.TrainingTypeName;
+import org.example.exception.validation.InvalidBulkRequestException;
 import org.example.model.Training;
+import org.example.utils.csv.CsvReader;
 
 public class TrainingConverter {
 
@@ -26,6 +39,79 @@ public class TrainingConverter {
                 .build();
     }
 
+    public static CursorPageDTO<TrainingDTO> convertHistoryToDtoPage(CursorPageDTO<TrainingHistoryDTO> page) {
+        List<TrainingDTO> trainings = page.getContent().stream()
+                .map(TrainingConverter::convertToDto)
+                .toList();
+        return new CursorPageDTO<>(trainings, page.getNextCursor());
+    }
+
+    public static TrainingDTO convertToDto(TrainingHistoryDTO training) {
+        return TrainingDTO.builder()
+                .id(training.getId())
+                .trainingName(training.getTrainingName())
+                .trainingDate(training.getTrainingDate())
+                .trainingType(training.getTrainingTypeName().name())
+                .trainingDuration(training.getTrainingDuration())
+                .trainerName(training.getTrainerFirstName() + " " + training.getTrainerLastName())
+                .build();
+    }
+
+    /**
+     * Reads the columns written by the CSV training export, so an export can be imported again.
+     * Other columns are ignored.
+     */
+    public static List<TrainingCreateDTO> convertFromCsv(String csv) {
+        List<Map<String, String>> rows = CsvReader.read(csv);
+        List<TrainingCreateDTO> trainings = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            Map<String, String> row = rows.get(i);
+            trainings.add(TrainingCreateDTO.builder()
+                    .traineeUsername(row.get("traineeUsername"))
+                    .trainerUsername(row.get("trainerUsername"))
+                    .trainingTypeName(parseTrainingType(row.get("trainingType"), i + 1))
+                    .trainingDate(parseTrainingDate(row.get("trainingDate"), i + 1))
+                    .trainingDuration(parseDuration(row.get("trainingDuration"), i + 1))
+                    .build());
+        }
+        return trainings;
+    }
+
+    private static TrainingTypeName parseTrainingType(String value, int row) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return TrainingTypeName.valueOf(value.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new InvalidBulkRequestException("Row " + row + ": unknown training type '" + value + "'");
+        }
+    }
+
+    private static Date parseTrainingDate(String value, int row) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return value.length() == 10
+                    ? Date.from(LocalDate.parse(value).atStartOfDay(ZoneOffset.UTC).toInstant())
+                    : Date.from(Instant.parse(value));
+        } catch (DateTimeParseException e) {
+            throw new InvalidBulkRequestException("Row " + row + ": trainingDate must be yyyy-MM-dd or an ISO instant");
+        }
+    }
+
+    private static int parseDuration(String value, int row) {
+        if (value == null) {
+            return 0;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new InvalidBulkRequestException("Row " + row + ": trainingDuration must be a whole number");
+        }
+    }
+
     private static String retrieveTrainerName(Training training) {
         return training.getTrainer().getUser().getFirstName()
                 + " "
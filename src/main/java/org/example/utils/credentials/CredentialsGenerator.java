@@ -1,14 +1,14 @@
 package org.example.utils.credentials;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
-import org.apache.commons.lang3.RandomStringUtils;
 import org.example.model.User;
-import org.example.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -16,41 +16,46 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class CredentialsGenerator {
 
-    private static final String CHARACTERS = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789";
+    private final UsernameAllocator usernameAllocator;
 
-    private static final int LENGTH = 10;
-
-    private final UserRepository userRepository;
+    private final PasswordPool passwordPool;
 
     @Autowired
-    public CredentialsGenerator(UserRepository userRepository) {
-        this.userRepository = userRepository;
+    public CredentialsGenerator(UsernameAllocator usernameAllocator, PasswordPool passwordPool) {
+        this.usernameAllocator = usernameAllocator;
+        this.passwordPool = passwordPool;
     }
 
     public String generateRandomPassword() {
-        log.info("Generating password...");
-        String password = RandomStringUtils.random(10, CHARACTERS);
-
-        String regex = "^[A-Za-z0-9]+$";
-        Pattern pattern = Pattern.compile(regex);
-        Matcher matcher = pattern.matcher(password);
-
-        if (matcher.matches()) {
-            return password;
-        } else {
-            return generateRandomPassword();
-        }
+        return passwordPool.take();
     }
 
-    @Transactional(readOnly = true)
     public String generateUsername(User user) {
         log.info("Generating username...");
-        String baseUsername = user.getFirstName() + "." + user.getLastName();
-        long count = userRepository.countByUsernameContaining(baseUsername);
-        if (count > 0) {
-            long usernameSuffix = count + 1;
-            return baseUsername + usernameSuffix;
+        String baseUsername = baseUsername(user);
+        return UsernameAllocator.username(baseUsername, usernameAllocator.allocate(baseUsername, 1));
+    }
+
+    /**
+     * Allocates usernames for a whole batch with one allocation per distinct base name, numbering repeated
+     * names in list order.
+     */
+    public List<String> generateUsernames(List<User> users) {
+        log.info("Generating {} usernames...", users.size());
+        Map<String, Integer> countsByBase = new LinkedHashMap<>();
+        users.forEach(user -> countsByBase.merge(baseUsername(user), 1, Integer::sum));
+        Map<String, Long> nextIndexByBase = new HashMap<>(countsByBase.size());
+        countsByBase.forEach((base, count) -> nextIndexByBase.put(base, usernameAllocator.allocate(base, count)));
+        List<String> usernames = new ArrayList<>(users.size());
+        for (User user : users) {
+            String baseUsername = baseUsername(user);
+            long index = nextIndexByBase.merge(baseUsername, 1L, Long::sum) - 1;
+            usernames.add(UsernameAllocator.username(baseUsername, index));
         }
-        return baseUsername;
+        return usernames;
+    }
+
+    private static String baseUsername(User user) {
+        return user.getFirstName() + "." + user.getLastName();
     }
 }
@@ -0,0 +1,98 @@
+package org.example.utils.credentials;
+
+import java.security.SecureRandom;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Random alphanumeric passwords drawn from {@link SecureRandom}. A scheduled refill keeps a lock-free queue
+ * of ready passwords topped up, so registration normally just polls the queue; when the queue runs dry the
+ * caller generates one itself instead of waiting. Pooled passwords are future credentials held in plain text,
+ * so the pool is kept small and heap dumps are not exposed over the web.
+ */
+@Component
+public class PasswordPool {
+
+    static final String CHARACTERS = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789";
+
+    static final int LENGTH = 10;
+
+    /**
+     * Largest multiple of the alphabet size that fits in a byte; higher bytes are rejected so every
+     * character is equally likely.
+     */
+    private static final int UNBIASED_BYTE_LIMIT = 256 - 256 % CHARACTERS.length();
+
+    private static final int RANDOM_BYTES_PER_DRAW = 64;
+
+    private final SecureRandom secureRandom;
+
+    private final Queue<String> passwords = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger size = new AtomicInteger();
+
+    private final int capacity;
+
+    private final char[] refillBuffer = new char[LENGTH];
+
+    private final byte[] refillRandomBytes = new byte[RANDOM_BYTES_PER_DRAW];
+
+    @Autowired
+    public PasswordPool(@Value("${registration.password-pool.capacity:64}") int capacity,
+                        MeterRegistry meterRegistry) {
+        this(new SecureRandom(), capacity);
+        Gauge.builder("registration.password.pool.size", size, AtomicInteger::get).register(meterRegistry);
+    }
+
+    public PasswordPool(SecureRandom secureRandom, int capacity) {
+        this.secureRandom = secureRandom;
+        this.capacity = capacity;
+    }
+
+    public String take() {
+        String password = passwords.poll();
+        if (password != null) {
+            size.decrementAndGet();
+            return password;
+        }
+        return generate(new char[LENGTH], new byte[RANDOM_BYTES_PER_DRAW]);
+    }
+
+    /**
+     * Tops the pool up to capacity. Only the scheduler calls this, so the refill buffers are never shared.
+     */
+    @Scheduled(fixedDelayString = "${registration.password-pool.refill-interval-millis:100}")
+    public void refill() {
+        while (size.get() < capacity) {
+            passwords.offer(generate(refillBuffer, refillRandomBytes));
+            size.incrementAndGet();
+        }
+    }
+
+    public int size() {
+        return size.get();
+    }
+
+    private String generate(char[] buffer, byte[] randomBytes) {
+        int filled = 0;
+        while (filled < buffer.length) {
+            secureRandom.nextBytes(randomBytes);
+            for (int i = 0; i < randomBytes.length && filled < buffer.length; i++) {
+                int value = randomBytes[i] & 0xFF;
+                if (value < UNBIASED_BYTE_LIMIT) {
+                    buffer[filled++] = CHARACTERS.charAt(value % CHARACTERS.length());
+                }
+            }
+        }
+        return new String(buffer);
+    }
+}
@@ -0,0 +1,136 @@
+package org.example.utils.credentials;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+
+/**
+ * Hands out username suffixes from the {@code username_counters} table, one row per base name. Each
+ * allocation is a single atomic upsert in its own short transaction, so concurrent registrations of the same
+ * name always get distinct suffixes. A base seen for the first time is seeded from the highest suffix already
+ * present in the users table, using a prefix match on the username index. The cache remembers recently used
+ * bases so that later allocations skip the seeding query.
+ */
+@Component
+public class UsernameAllocator {
+
+    private static final String SEED_SQL = "SELECT username FROM user WHERE username LIKE ?";
+
+    private static final String INCREMENT_SQL =
+            "UPDATE username_counters SET allocated = allocated + ? WHERE base_username = ?";
+
+    private static final String UPSERT_SQL = "INSERT INTO username_counters (base_username, allocated) "
+            + "VALUES (?, ?) ON DUPLICATE KEY UPDATE allocated = allocated + ?";
+
+    private static final String SELECT_SQL = "SELECT allocated FROM username_counters WHERE base_username = ?";
+
+    private static final int MAX_SUFFIX_DIGITS = 18;
+
+    private static final char SUFFIX_SEPARATOR = '-';
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final Cache<String, Boolean> seededBases;
+
+    @Autowired
+    public UsernameAllocator(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                             @Value("${registration.username-allocator.cache-max-size:10000}") long cacheMaxSize,
+                             @Value("${registration.username-allocator.cache-ttl-seconds:3600}") long cacheTtlSeconds,
+                             MeterRegistry meterRegistry) {
+        this(jdbcTemplate, transactionManager, cacheMaxSize, cacheTtlSeconds);
+        GuavaCacheMetrics.monitor(meterRegistry, seededBases, "registration.username.bases");
+    }
+
+    public UsernameAllocator(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                             long cacheMaxSize, long cacheTtlSeconds) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.seededBases = CacheBuilder.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfterAccess(cacheTtlSeconds, TimeUnit.SECONDS)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Reserves {@code count} consecutive usernames for {@code baseUsername} and returns the index of the first;
+     * {@link #username} turns an index into the username.
+     */
+    public long allocate(String baseUsername, int count) {
+        Long first = transactionTemplate.execute(status -> {
+            int updated = seededBases.getIfPresent(baseUsername) != null
+                    ? jdbcTemplate.update(INCREMENT_SQL, count, baseUsername)
+                    : 0;
+            if (updated == 0) {
+                jdbcTemplate.update(UPSERT_SQL, baseUsername, highestIndex(baseUsername) + count, count);
+            }
+            return jdbcTemplate.queryForObject(SELECT_SQL, Long.class, baseUsername) - count + 1;
+        });
+        seededBases.put(baseUsername, Boolean.TRUE);
+        return first;
+    }
+
+    /**
+     * Index 1 is the bare base name and index {@code n > 1} is the base followed by {@code n}. A base ending in
+     * a digit or in the separator always gets the separator before its index, so that no two bases can produce
+     * the same username: otherwise {@code A.B} #12 and {@code A.B1} #2 would both be {@code A.B12}.
+     */
+    public static String username(String baseUsername, long index) {
+        if (needsSeparator(baseUsername)) {
+            return baseUsername + SUFFIX_SEPARATOR + index;
+        }
+        return index == 1 ? baseUsername : baseUsername + index;
+    }
+
+    private static boolean needsSeparator(String baseUsername) {
+        if (baseUsername.isEmpty()) {
+            return false;
+        }
+        char last = baseUsername.charAt(baseUsername.length() - 1);
+        return Character.isDigit(last) || last == SUFFIX_SEPARATOR;
+    }
+
+    /**
+     * Wildcards in the base are left unescaped: they can only widen the match, and the exact check
+     * happens here.
+     */
+    private long highestIndex(String baseUsername) {
+        List<String> usernames = jdbcTemplate.queryForList(SEED_SQL, String.class, baseUsername + "%");
+        boolean separated = needsSeparator(baseUsername);
+        long highest = 0;
+        for (String username : usernames) {
+            if (!username.startsWith(baseUsername)) {
+                continue;
+            }
+            String suffix = username.substring(baseUsername.length());
+            if (separated) {
+                if (suffix.isEmpty() || suffix.charAt(0) != SUFFIX_SEPARATOR) {
+                    continue;
+                }
+                suffix = suffix.substring(1);
+            }
+            if (suffix.isEmpty()) {
+                highest = separated ? highest : Math.max(highest, 1);
+            } else if (suffix.length() <= MAX_SUFFIX_DIGITS && suffix.chars().allMatch(Character::isDigit)) {
+                highest = Math.max(highest, Long.parseLong(suffix));
+            }
+        }
+        return highest;
+    }
+}
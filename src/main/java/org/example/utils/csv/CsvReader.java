@@ -0,0 +1,87 @@
+package org.example.utils.csv;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.example.exception.validation.InvalidBulkRequestException;
+
+/**
+ * Reads an RFC 4180 style CSV document whose first line names the columns. Quoted fields may contain
+ * separators, doubled quotes and line breaks; blank lines are skipped.
+ */
+public final class CsvReader {
+
+    private CsvReader() {
+    }
+
+    public static List<Map<String, String>> read(String text) {
+        List<List<String>> lines = parse(text);
+        if (lines.isEmpty()) {
+            throw new InvalidBulkRequestException("CSV header line is missing");
+        }
+        List<String> header = lines.get(0);
+        List<Map<String, String>> rows = new ArrayList<>(lines.size() - 1);
+        for (int i = 1; i < lines.size(); i++) {
+            List<String> fields = lines.get(i);
+            if (fields.size() > header.size()) {
+                throw new InvalidBulkRequestException("CSV row " + i + " has more fields than the header");
+            }
+            Map<String, String> row = new HashMap<>();
+            for (int column = 0; column < fields.size(); column++) {
+                String value = fields.get(column).trim();
+                row.put(header.get(column).trim(), value.isEmpty() ? null : value);
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    private static List<List<String>> parse(String text) {
+        List<List<String>> lines = new ArrayList<>();
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean fieldStarted = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < text.length() && text.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+                fieldStarted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+                fieldStarted = true;
+            } else if (c == '\n' || c == '\r') {
+                if (fieldStarted || !field.isEmpty()) {
+                    fields.add(field.toString());
+                    lines.add(fields);
+                    fields = new ArrayList<>();
+                    field.setLength(0);
+                }
+                fieldStarted = false;
+            } else {
+                field.append(c);
+                fieldStarted = true;
+            }
+        }
+        if (quoted) {
+            throw new InvalidBulkRequestException("CSV ends inside a quoted field");
+        }
+        if (fieldStarted || !field.isEmpty()) {
+            fields.add(field.toString());
+            lines.add(fields);
+        }
+        return lines;
+    }
+}
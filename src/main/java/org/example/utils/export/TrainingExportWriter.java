@@ -0,0 +1,128 @@
+package org.example.utils.export;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeFormatter;
+
+import org.example.dto.training.TrainingExportDTO;
+import org.example.enums.ExportFormat;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Writes export rows one at a time to a response stream. Output is buffered and flushed after the first row
+ * and then every {@link #FLUSH_EVERY_ROWS} rows, so clients see data at once without a flush per row. JSON rows
+ * are written with {@link SerializationFeature#FLUSH_AFTER_WRITE_VALUE} disabled for the same reason.
+ */
+public class TrainingExportWriter implements Closeable {
+
+    private static final int FLUSH_EVERY_ROWS = 1_000;
+    private static final String CSV_HEADER =
+            "id,trainingDate,trainingName,trainingType,trainingDuration,trainerUsername,traineeUsername\n";
+
+    private final ExportFormat format;
+
+    private final Writer writer;
+
+    private final ObjectWriter rowWriter;
+
+    private final JsonGenerator jsonGenerator;
+
+    private long rows;
+
+    public TrainingExportWriter(OutputStream outputStream, ExportFormat format, ObjectMapper objectMapper)
+            throws IOException {
+        this.format = format;
+        this.rowWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        if (format == ExportFormat.NDJSON) {
+            this.jsonGenerator = objectMapper.getFactory().createGenerator(writer)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                    .setRootValueSeparator(null);
+        } else {
+            this.jsonGenerator = null;
+            writer.write(CSV_HEADER);
+        }
+    }
+
+    public void write(TrainingExportDTO row) {
+        try {
+            if (format == ExportFormat.NDJSON) {
+                rowWriter.writeValue(jsonGenerator, row);
+                jsonGenerator.writeRaw('\n');
+            } else {
+                writeCsv(row);
+            }
+            if (++rows == 1 || rows % FLUSH_EVERY_ROWS == 0) {
+                flush();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (jsonGenerator != null) {
+            jsonGenerator.close();
+        }
+        writer.close();
+    }
+
+    private void flush() throws IOException {
+        if (jsonGenerator != null) {
+            // the generator passes the flush through to the writer
+            jsonGenerator.flush();
+        } else {
+            writer.flush();
+        }
+    }
+
+    private void writeCsv(TrainingExportDTO row) throws IOException {
+        writer.write(Long.toString(row.getId()));
+        writer.write(',');
+        writer.write(DateTimeFormatter.ISO_INSTANT.format(row.getTrainingDate().toInstant()));
+        writer.write(',');
+        writeCsvField(row.getTrainingName());
+        writer.write(',');
+        writer.write(row.getTrainingType() == null ? "" : row.getTrainingType().name());
+        writer.write(',');
+        writer.write(Integer.toString(row.getTrainingDuration()));
+        writer.write(',');
+        writeCsvField(row.getTrainerUsername());
+        writer.write(',');
+        writeCsvField(row.getTraineeUsername());
+        writer.write('\n');
+    }
+
+    private void writeCsvField(String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
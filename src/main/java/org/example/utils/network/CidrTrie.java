@@ -0,0 +1,168 @@
+package org.example.utils.network;
+
+import java.net.Inet4Address;
+import java.net.InetAddress;
+
+import com.google.common.net.InetAddresses;
+
+/**
+ * Path-compressed binary trie of IPv4 and IPv6 CIDR ranges with longest-prefix-match lookups.
+ * A lookup visits at most one node per address bit, so its cost is bounded by the address
+ * length no matter how many ranges are stored. Not thread-safe for writes; build it once
+ * and publish it before reading from several threads.
+ */
+public class CidrTrie<V> {
+
+    private Node<V> ipv4Root;
+
+    private Node<V> ipv6Root;
+
+    private int size;
+
+    /**
+     * Adds a range such as {@code 10.0.0.0/8} or {@code 2001:db8::/32}. An address without a
+     * prefix length is stored as a single host. Host bits beyond the prefix are ignored.
+     */
+    public void put(String cidr, V value) {
+        int slash = cidr.indexOf('/');
+        InetAddress address = InetAddresses.forString((slash < 0 ? cidr : cidr.substring(0, slash)).trim());
+        byte[] key = address.getAddress();
+        int maxLength = key.length * Byte.SIZE;
+        int length = slash < 0 ? maxLength : Integer.parseInt(cidr.substring(slash + 1).trim());
+        if (length < 0 || length > maxLength) {
+            throw new IllegalArgumentException("Invalid prefix length in " + cidr);
+        }
+        mask(key, length);
+        if (address instanceof Inet4Address) {
+            ipv4Root = insert(ipv4Root, key, length, value);
+        } else {
+            ipv6Root = insert(ipv6Root, key, length, value);
+        }
+    }
+
+    public V longestMatch(InetAddress address) {
+        byte[] key = address.getAddress();
+        Node<V> node = address instanceof Inet4Address ? ipv4Root : ipv6Root;
+        int maxLength = key.length * Byte.SIZE;
+        V match = null;
+        while (node != null && matches(node.key, key, node.length)) {
+            if (node.value != null) {
+                match = node.value;
+            }
+            if (node.length == maxLength) {
+                break;
+            }
+            node = node.children[bit(key, node.length)];
+        }
+        return match;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private Node<V> insert(Node<V> root, byte[] key, int length, V value) {
+        Node<V> parent = null;
+        Node<V> node = root;
+        while (node != null) {
+            int common = commonPrefixLength(node.key, node.length, key, length);
+            if (common < node.length) {
+                Node<V> split;
+                if (common == length) {
+                    split = new Node<>(key, length, value);
+                } else {
+                    split = new Node<>(key, common, null);
+                    split.children[bit(key, common)] = new Node<>(key, length, value);
+                }
+                split.children[bit(node.key, common)] = node;
+                size++;
+                return replace(root, parent, node, split);
+            }
+            if (node.length == length) {
+                if (node.value == null) {
+                    size++;
+                }
+                node.value = value;
+                return root;
+            }
+            parent = node;
+            node = node.children[bit(key, node.length)];
+        }
+        Node<V> leaf = new Node<>(key, length, value);
+        size++;
+        if (parent == null) {
+            return leaf;
+        }
+        parent.children[bit(key, parent.length)] = leaf;
+        return root;
+    }
+
+    private static <V> Node<V> replace(Node<V> root, Node<V> parent, Node<V> node, Node<V> replacement) {
+        if (parent == null) {
+            return replacement;
+        }
+        parent.children[parent.children[0] == node ? 0 : 1] = replacement;
+        return root;
+    }
+
+    private static int commonPrefixLength(byte[] a, int aLength, byte[] b, int bLength) {
+        int limit = Math.min(aLength, bLength);
+        int common = 0;
+        for (int i = 0; common < limit; i++) {
+            int diff = (a[i] ^ b[i]) & 0xff;
+            if (diff != 0) {
+                return Math.min(limit, common + Integer.numberOfLeadingZeros(diff) - 24);
+            }
+            common += Byte.SIZE;
+        }
+        return limit;
+    }
+
+    private static boolean matches(byte[] prefix, byte[] key, int length) {
+        int fullBytes = length / Byte.SIZE;
+        for (int i = 0; i < fullBytes; i++) {
+            if (prefix[i] != key[i]) {
+                return false;
+            }
+        }
+        int remainder = length % Byte.SIZE;
+        if (remainder == 0) {
+            return true;
+        }
+        int mask = 0xff << (Byte.SIZE - remainder);
+        return ((prefix[fullBytes] ^ key[fullBytes]) & mask) == 0;
+    }
+
+    private static int bit(byte[] key, int index) {
+        return (key[index / Byte.SIZE] >> (Byte.SIZE - 1 - index % Byte.SIZE)) & 1;
+    }
+
+    private static void mask(byte[] key, int length) {
+        for (int i = 0; i < key.length; i++) {
+            int bitsInByte = Math.min(Byte.SIZE, Math.max(0, length - i * Byte.SIZE));
+            key[i] &= (byte) (0xff << (Byte.SIZE - bitsInByte));
+        }
+    }
+
+    private static final class Node<V> {
+
+        private final byte[] key;
+
+        private final int length;
+
+        @SuppressWarnings("unchecked")
+        private final Node<V>[] children = new Node[2];
+
+        private V value;
+
+        private Node(byte[] key, int length, V value) {
+            this.key = key;
+            this.length = length;
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package org.example.utils.pagination;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.Date;
+
+import org.example.exception.validation.InvalidCursorException;
+
+/**
+ * Position after the last training of a page, ordered by {@code (trainingDate, id)}. Clients receive it
+ * as an opaque URL-safe token.
+ */
+public record TrainingCursor(Date trainingDate, long id) {
+
+    private static final int ENCODED_BYTES = 2 * Long.BYTES;
+
+    public static TrainingCursor before(Date periodFrom) {
+        return new TrainingCursor(new Date(periodFrom.getTime() - 1), Long.MIN_VALUE);
+    }
+
+    public static TrainingCursor decode(String cursor) {
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("Malformed pagination cursor");
+        }
+        if (bytes.length != ENCODED_BYTES) {
+            throw new InvalidCursorException("Malformed pagination cursor");
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new TrainingCursor(new Date(buffer.getLong()), buffer.getLong());
+    }
+
+    public String encode() {
+        byte[] bytes = ByteBuffer.allocate(ENCODED_BYTES)
+                .putLong(trainingDate.getTime())
+                .putLong(id)
+                .array();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
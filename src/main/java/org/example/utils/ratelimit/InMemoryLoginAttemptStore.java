@@ -0,0 +1,84 @@
+package org.example.utils.ratelimit;
+
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Per-JVM counters. At most {@code maxTrackedKeys} keys are tracked. Once the table has turned a key away,
+ * unknown keys are reported as untracked for a window, since any of them may be the one turned away;
+ * otherwise an unknown key simply has no attempts.
+ */
+@Component
+@ConditionalOnProperty(name = "security.login-attempts.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryLoginAttemptStore implements LoginAttemptStore {
+
+    private static final int BUCKET_COUNT = 10;
+    private static final int PURGE_INTERVAL = 1024;
+
+    private final ConcurrentMap<String, SlidingWindowCounter> attempts = new ConcurrentHashMap<>();
+
+    private final AtomicInteger newKeys = new AtomicInteger();
+
+    private volatile long untrackedUntil;
+
+    private final int maxTrackedKeys;
+
+    private final long windowMillis;
+
+    @Autowired
+    public InMemoryLoginAttemptStore(@Value("${security.login-attempts.max-tracked-keys:100000}") int maxTrackedKeys,
+                                     @Value("${security.login-attempts.window-seconds:300}") long windowSeconds) {
+        this.maxTrackedKeys = maxTrackedKeys;
+        this.windowMillis = TimeUnit.SECONDS.toMillis(windowSeconds);
+    }
+
+    @Override
+    public void increment(String key, long nowMillis) {
+        SlidingWindowCounter counter;
+        do {
+            counter = counterFor(key, nowMillis);
+            if (counter == null) {
+                return;
+            }
+            counter.increment(nowMillis);
+        } while (attempts.get(key) != counter);
+    }
+
+    @Override
+    public OptionalLong count(String key, long nowMillis) {
+        SlidingWindowCounter counter = attempts.get(key);
+        if (counter != null) {
+            return OptionalLong.of(counter.count(nowMillis));
+        }
+        return nowMillis < untrackedUntil ? OptionalLong.empty() : OptionalLong.of(0);
+    }
+
+    private SlidingWindowCounter counterFor(String key, long nowMillis) {
+        SlidingWindowCounter counter = attempts.get(key);
+        if (counter != null) {
+            return counter;
+        }
+        if (newKeys.incrementAndGet() % PURGE_INTERVAL == 0) {
+            purgeIdleCounters(nowMillis);
+        }
+        if (attempts.size() >= maxTrackedKeys) {
+            untrackedUntil = nowMillis + windowMillis;
+            return null;
+        }
+        return attempts.computeIfAbsent(key, k -> new SlidingWindowCounter(windowMillis, BUCKET_COUNT));
+    }
+
+    private void purgeIdleCounters(long nowMillis) {
+        for (String key : attempts.keySet()) {
+            attempts.computeIfPresent(key, (k, counter) -> counter.isIdle(nowMillis) ? null : counter);
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package org.example.utils.ratelimit;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Counters shared by every node through the {@code login_attempts} table. Increments are buffered
+ * locally and upserted in batches; reads combine a briefly cached database sum with the local buffer.
+ * Buffered rows are only released once their batch is written, so a flush may briefly overcount but
+ * never undercounts. While the database is unreachable the buffer holds at most {@code maxPendingRows}
+ * rows; increments that do not fit are dropped and every key is reported as untracked for a window.
+ */
+@Component
+@ConditionalOnProperty(name = "security.login-attempts.store", havingValue = "jdbc")
+@Slf4j
+public class JdbcLoginAttemptStore implements LoginAttemptStore {
+
+    private static final String UPSERT_SQL = "INSERT INTO login_attempts (attempt_key, bucket, attempts) "
+            + "VALUES (?, ?, ?) ON DUPLICATE KEY UPDATE attempts = attempts + VALUES(attempts)";
+
+    private static final String COUNT_SQL = "SELECT COALESCE(SUM(attempts), 0) FROM login_attempts "
+            + "WHERE attempt_key = ? AND bucket > ?";
+
+    private static final String PURGE_SQL = "DELETE FROM login_attempts WHERE bucket <= ?";
+
+    private static final int BUCKET_COUNT = 10;
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final ConcurrentMap<PendingAttempts, Long> pending = new ConcurrentHashMap<>();
+
+    private final Cache<String, Long> storedCounts;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final long bucketMillis;
+
+    private final int batchSize;
+
+    private final int maxPendingRows;
+
+    private final long windowMillis;
+
+    private volatile long untrackedUntil;
+
+    @Autowired
+    public JdbcLoginAttemptStore(JdbcTemplate jdbcTemplate,
+                                 @Value("${security.login-attempts.window-seconds:300}") long windowSeconds,
+                                 @Value("${security.login-attempts.jdbc.cache-ttl-millis:1000}") long cacheTtlMillis,
+                                 @Value("${security.login-attempts.jdbc.batch-size:500}") int batchSize,
+                                 @Value("${security.login-attempts.jdbc.max-pending-rows:100000}") int maxPendingRows,
+                                 MeterRegistry meterRegistry) {
+        this(jdbcTemplate, TimeUnit.SECONDS.toMillis(windowSeconds), cacheTtlMillis, batchSize, maxPendingRows);
+        GuavaCacheMetrics.monitor(meterRegistry, storedCounts, "security.login.attempts");
+    }
+
+    public JdbcLoginAttemptStore(JdbcTemplate jdbcTemplate, long windowMillis, long cacheTtlMillis, int batchSize,
+                                 int maxPendingRows) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.windowMillis = windowMillis;
+        this.bucketMillis = Math.max(1, windowMillis / BUCKET_COUNT);
+        this.batchSize = batchSize;
+        this.maxPendingRows = maxPendingRows;
+        this.storedCounts = CacheBuilder.newBuilder()
+                .expireAfterWrite(cacheTtlMillis, TimeUnit.MILLISECONDS)
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public void increment(String key, long nowMillis) {
+        PendingAttempts pendingKey = new PendingAttempts(storageKey(key), nowMillis / bucketMillis);
+        if (pending.size() >= maxPendingRows && !pending.containsKey(pendingKey)) {
+            untrackedUntil = nowMillis + windowMillis;
+            return;
+        }
+        pending.merge(pendingKey, 1L, Long::sum);
+    }
+
+    @Override
+    public OptionalLong count(String key, long nowMillis) {
+        if (nowMillis < untrackedUntil) {
+            return OptionalLong.empty();
+        }
+        String storageKey = storageKey(key);
+        long bucket = nowMillis / bucketMillis;
+        long attempts = 0;
+        for (long b = bucket - BUCKET_COUNT + 1; b <= bucket; b++) {
+            attempts += pending.getOrDefault(new PendingAttempts(storageKey, b), 0L);
+        }
+        try {
+            attempts += storedCounts.get(storageKey,
+                    () -> jdbcTemplate.queryForObject(COUNT_SQL, Long.class, storageKey, bucket - BUCKET_COUNT));
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            log.warn("Could not read login attempts for {}: {}", key, e.getCause().getMessage());
+        }
+        return OptionalLong.of(attempts);
+    }
+
+    @Scheduled(fixedDelayString = "${security.login-attempts.jdbc.flush-interval-millis:500}")
+    public void flush() {
+        List<Object[]> rows = new ArrayList<>();
+        pending.forEach((key, attempts) -> rows.add(new Object[]{key.attemptKey(), key.bucket(), attempts}));
+        for (int from = 0; from < rows.size(); from += batchSize) {
+            List<Object[]> batch = rows.subList(from, Math.min(from + batchSize, rows.size()));
+            try {
+                jdbcTemplate.batchUpdate(UPSERT_SQL, batch);
+            } catch (DataAccessException e) {
+                log.warn("Could not flush {} login attempt counters, keeping them buffered: {}",
+                        rows.size() - from, e.getMessage());
+                return;
+            }
+            for (Object[] row : batch) {
+                long written = (Long) row[2];
+                storedCounts.invalidate(row[0]);
+                pending.computeIfPresent(new PendingAttempts((String) row[0], (Long) row[1]),
+                        (key, attempts) -> attempts == written ? null : attempts - written);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${security.login-attempts.jdbc.purge-interval-millis:60000}")
+    public void purgeExpired() {
+        purgeExpired(System.currentTimeMillis());
+    }
+
+    void purgeExpired(long nowMillis) {
+        long expiredBucket = nowMillis / bucketMillis - BUCKET_COUNT;
+        pending.keySet().removeIf(key -> key.bucket() <= expiredBucket);
+        jdbcTemplate.update(PURGE_SQL, expiredBucket);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private static String storageKey(String key) {
+        if (key.length() <= MAX_KEY_LENGTH) {
+            return key;
+        }
+        return "sha256:" + Hashing.sha256().hashString(key, StandardCharsets.UTF_8);
+    }
+
+    private record PendingAttempts(String attemptKey, long bucket) {
+    }
+}
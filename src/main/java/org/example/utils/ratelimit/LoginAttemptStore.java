@@ -0,0 +1,17 @@
+package org.example.utils.ratelimit;
+
+import java.util.OptionalLong;
+
+/**
+ * Failed login counters over a sliding window, keyed by client address or username.
+ */
+public interface LoginAttemptStore {
+
+    void increment(String key, long nowMillis);
+
+    /**
+     * Returns the number of attempts within the window, zero for a key with no attempts, or empty when the key
+     * may have attempts the store could not track because it was full.
+     */
+    OptionalLong count(String key, long nowMillis);
+}
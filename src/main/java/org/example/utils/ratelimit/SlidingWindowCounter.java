@@ -0,0 +1,63 @@
+package org.example.utils.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free event counter over a sliding window split into fixed buckets. Each bucket packs the
+ * epoch it belongs to and its count into one {@code long}, so rolling a bucket over to a new epoch
+ * and incrementing it is a single compare-and-set and no increment is ever lost.
+ */
+public class SlidingWindowCounter {
+
+    private static final int COUNT_BITS = 24;
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+    private static final int EPOCH_BITS = Long.SIZE - COUNT_BITS;
+    private static final long EPOCH_MASK = (1L << EPOCH_BITS) - 1;
+
+    private final AtomicLongArray buckets;
+
+    private final long bucketMillis;
+
+    public SlidingWindowCounter(long windowMillis, int bucketCount) {
+        if (windowMillis < bucketCount || bucketCount < 1) {
+            throw new IllegalArgumentException("Window must be at least one millisecond per bucket");
+        }
+        this.buckets = new AtomicLongArray(bucketCount);
+        this.bucketMillis = windowMillis / bucketCount;
+    }
+
+    public long increment(long nowMillis) {
+        long epoch = nowMillis / bucketMillis;
+        int index = (int) Math.floorMod(epoch, (long) buckets.length());
+        long tag = epoch & EPOCH_MASK;
+        while (true) {
+            long current = buckets.get(index);
+            long next;
+            if ((current >>> COUNT_BITS) == tag) {
+                next = (current & COUNT_MASK) == COUNT_MASK ? current : current + 1;
+            } else {
+                next = (tag << COUNT_BITS) | 1;
+            }
+            if (buckets.compareAndSet(index, current, next)) {
+                return count(nowMillis);
+            }
+        }
+    }
+
+    public long count(long nowMillis) {
+        long tag = (nowMillis / bucketMillis) & EPOCH_MASK;
+        long total = 0;
+        for (int i = 0; i < buckets.length(); i++) {
+            long bucket = buckets.get(i);
+            long age = (tag - (bucket >>> COUNT_BITS)) & EPOCH_MASK;
+            if (age < buckets.length()) {
+                total += bucket & COUNT_MASK;
+            }
+        }
+        return total;
+    }
+
+    public boolean isIdle(long nowMillis) {
+        return count(nowMillis) == 0;
+    }
+}
@@ -0,0 +1,69 @@
+package org.example.utils.sketch;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import com.google.common.hash.HashCode;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+
+/**
+ * Fixed-size frequency sketch. Estimates never undercount; they overcount by at most
+ * {@code e / width} of the total number of additions with probability {@code 1 - e^-depth}.
+ */
+public class CountMinSketch {
+
+    private static final HashFunction HASH_FUNCTION = Hashing.murmur3_128();
+
+    private final int depth;
+
+    private final int widthMask;
+
+    private final AtomicLongArray counters;
+
+    public CountMinSketch(int depth, int width) {
+        if (depth < 1 || width < 1) {
+            throw new IllegalArgumentException("Depth and width must be positive");
+        }
+        int roundedWidth = Integer.highestOneBit(width) == width ? width : Integer.highestOneBit(width) << 1;
+        this.depth = depth;
+        this.widthMask = roundedWidth - 1;
+        this.counters = new AtomicLongArray(depth * roundedWidth);
+    }
+
+    public long add(String key) {
+        HashCode hashCode = HASH_FUNCTION.hashString(key, StandardCharsets.UTF_8);
+        long hash1 = hashCode.asLong();
+        long hash2 = secondHalf(hashCode);
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counters.incrementAndGet(index(row, hash1, hash2)));
+        }
+        return estimate;
+    }
+
+    public long estimate(String key) {
+        HashCode hashCode = HASH_FUNCTION.hashString(key, StandardCharsets.UTF_8);
+        long hash1 = hashCode.asLong();
+        long hash2 = secondHalf(hashCode);
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counters.get(index(row, hash1, hash2)));
+        }
+        return estimate;
+    }
+
+    private int index(int row, long hash1, long hash2) {
+        long combined = hash1 + row * hash2;
+        return row * (widthMask + 1) + (int) ((combined ^ (combined >>> 32)) & widthMask);
+    }
+
+    private static long secondHalf(HashCode hashCode) {
+        byte[] bytes = hashCode.asBytes();
+        long value = 0;
+        for (int i = Long.BYTES * 2 - 1; i >= Long.BYTES; i--) {
+            value = (value << 8) | (bytes[i] & 0xffL);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,67 @@
+package org.example.benchmark;
+
+import java.security.SecureRandom;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.commons.lang3.RandomStringUtils;
+import org.example.utils.credentials.PasswordPool;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+/**
+ * Compares the previous password generator, which drew from {@code RandomStringUtils} and compiled a regex
+ * per call, with {@link PasswordPool} generating on the spot and handing out pre-generated passwords.
+ * Run with {@code mvn test -Dtest=PasswordGenerationBenchmarkTest -Dbenchmark=true}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class PasswordGenerationBenchmarkTest {
+
+    private static final int WARMUP_ITERATIONS = 100_000;
+    private static final int MEASURED_ITERATIONS = 100_000;
+    private static final String CHARACTERS = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789";
+
+    @Test
+    void measurePasswordGenerationTime() {
+        PasswordPool emptyPool = new PasswordPool(new SecureRandom(), 0);
+        PasswordPool filledPool = new PasswordPool(new SecureRandom(), MEASURED_ITERATIONS);
+
+        benchmark("RandomStringUtils + regex (previous)", PasswordGenerationBenchmarkTest::legacyPassword, null);
+        benchmark("SecureRandom, generated on take", emptyPool::take, null);
+        benchmark("SecureRandom, pooled take", filledPool::take, filledPool);
+    }
+
+    private void benchmark(String name, Supplier<String> generator, PasswordPool poolToRefill) {
+        run(generator, WARMUP_ITERATIONS, poolToRefill);
+        long elapsed = run(generator, MEASURED_ITERATIONS, poolToRefill);
+        System.out.printf("%-40s %8.3f us/password%n", name, elapsed / 1_000.0 / MEASURED_ITERATIONS);
+    }
+
+    /**
+     * Refilling happens before the clock starts, the way the scheduler keeps the pool topped up off the
+     * request path.
+     */
+    private long run(Supplier<String> generator, int iterations, PasswordPool poolToRefill) {
+        if (poolToRefill != null) {
+            poolToRefill.refill();
+        }
+        long checksum = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            checksum += generator.get().charAt(0);
+        }
+        long elapsed = System.nanoTime() - start;
+        if (checksum == 0) {
+            System.out.println("unexpected checksum");
+        }
+        return elapsed;
+    }
+
+    private static String legacyPassword() {
+        String password = RandomStringUtils.random(10, CHARACTERS);
+        Pattern pattern = Pattern.compile("^[A-Za-z0-9]+$");
+        Matcher matcher = pattern.matcher(password);
+        return matcher.matches() ? password : legacyPassword();
+    }
+}
@@ -0,0 +1,84 @@
+package org.example.benchmark;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.example.service.TokenService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.FilterChainProxy;
+import org.springframework.security.web.SecurityFilterChain;
+
+import jakarta.servlet.FilterChain;
+
+/**
+ * Measures time spent in the security filter chain alone, with a no-op servlet behind it.
+ * Run with {@code mvn test -Dtest=SecurityFilterChainBenchmarkTest -Dbenchmark=true}.
+ */
+@SpringBootTest
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class SecurityFilterChainBenchmarkTest {
+
+    private static final int WARMUP_ITERATIONS = 100_000;
+    private static final int MEASURED_ITERATIONS = 100_000;
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> { };
+
+    @Autowired
+    private FilterChainProxy filterChainProxy;
+
+    @Autowired
+    private TokenService tokenService;
+
+    @Test
+    void measureFilterChainTimePerRequest() throws Exception {
+        String token = tokenService.generateToken(new UsernamePasswordAuthenticationToken("John.Doe", null,
+                AuthorityUtils.createAuthorityList("SCOPE_read")));
+
+        benchmark("GET /actuator/health", () -> request("GET", "/actuator/health"));
+        benchmark("GET /v3/api-docs", () -> request("GET", "/v3/api-docs"));
+        benchmark("GET /api/trainees/John.Doe (bearer)", () -> {
+            MockHttpServletRequest request = request("GET", "/api/trainees/John.Doe");
+            request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+            return request;
+        });
+        benchmark("POST /api/trainees (anonymous)", () -> request("POST", "/api/trainees"));
+    }
+
+    private void benchmark(String name, Supplier<MockHttpServletRequest> requests) throws Exception {
+        MockHttpServletRequest sample = requests.get();
+        int filters = filterChainProxy.getFilterChains().stream()
+                .filter(chain -> chain.matches(sample))
+                .findFirst()
+                .map(SecurityFilterChain::getFilters)
+                .map(List::size)
+                .orElse(0);
+        run(requests, WARMUP_ITERATIONS);
+        long elapsed = run(requests, MEASURED_ITERATIONS);
+        System.out.printf("%-40s %3d filters %8.2f us/request%n", name, filters,
+                elapsed / 1_000.0 / MEASURED_ITERATIONS);
+    }
+
+    private long run(Supplier<MockHttpServletRequest> requests, int iterations) throws Exception {
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            filterChainProxy.doFilter(requests.get(), new MockHttpServletResponse(), NO_OP_CHAIN);
+            SecurityContextHolder.clearContext();
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static MockHttpServletRequest request(String method, String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        request.setServletPath(path);
+        request.setRemoteAddr("198.51.100.1");
+        return request;
+    }
+}
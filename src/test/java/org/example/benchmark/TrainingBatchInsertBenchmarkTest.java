@@ -0,0 +1,97 @@
+package org.example.benchmark;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.example.enums.TrainingTypeName;
+import org.example.model.Trainee;
+import org.example.model.Trainer;
+import org.example.model.Training;
+import org.example.model.TrainingType;
+import org.example.repository.TrainingRepository;
+import org.example.utils.H2DataJpaTest;
+import org.example.utils.dummydata.TraineeDummyDataFactory;
+import org.example.utils.dummydata.TrainerDummyDataFactory;
+import org.example.utils.dummydata.TrainingTypeDummyDataFactory;
+import org.example.utils.dummydata.UserDummyDataFactory;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+/**
+ * Compares bulk training creation with JDBC batching disabled, which is what {@code IDENTITY} ids force,
+ * against the configured batch size with pooled sequence ids. The in-memory database has no network latency,
+ * so the statement count is the figure that carries over to a remote server.
+ * Run with {@code mvn test -Dtest=TrainingBatchInsertBenchmarkTest -Dbenchmark=true}.
+ */
+@H2DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class TrainingBatchInsertBenchmarkTest {
+
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int TRAININGS = 5_000;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TrainingRepository trainingRepository;
+
+    @Test
+    void measureBulkTrainingCreation() {
+        Session session = entityManager.getEntityManager().unwrap(Session.class);
+        Statistics statistics = session.getSessionFactory().unwrap(SessionFactory.class).getStatistics();
+        TrainingType trainingType = entityManager.persist(
+                TrainingTypeDummyDataFactory.getTrainingType(TrainingTypeName.AEROBIC));
+        Trainee trainee = entityManager.persist(
+                TraineeDummyDataFactory.getTrainee(UserDummyDataFactory.getUserJohnDoe()));
+        Trainer trainer = entityManager.persist(
+                TrainerDummyDataFactory.getTrainer(UserDummyDataFactory.getUserJoeJohnson(), trainingType));
+        entityManager.flush();
+        entityManager.clear();
+
+        Integer configuredBatchSize = session.getJdbcBatchSize();
+        long[] ids = {trainee.getId(), trainer.getId(), trainingType.getId()};
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            insert(session, statistics, 1, ids);
+            insert(session, statistics, configuredBatchSize, ids);
+        }
+        report("unbatched", insert(session, statistics, 1, ids), statistics);
+        report("batched", insert(session, statistics, configuredBatchSize, ids), statistics);
+    }
+
+    private long insert(Session session, Statistics statistics, Integer batchSize, long[] ids) {
+        session.setJdbcBatchSize(batchSize);
+        Trainee trainee = session.getReference(Trainee.class, ids[0]);
+        Trainer trainer = session.getReference(Trainer.class, ids[1]);
+        TrainingType trainingType = session.getReference(TrainingType.class, ids[2]);
+        List<Training> trainings = new ArrayList<>(TRAININGS);
+        for (int i = 0; i < TRAININGS; i++) {
+            trainings.add(Training.builder()
+                    .trainee(trainee)
+                    .trainer(trainer)
+                    .trainingType(trainingType)
+                    .trainingName("Benchmark " + i)
+                    .trainingDate(new Date(i * 60_000L))
+                    .trainingDuration(30)
+                    .build());
+        }
+        statistics.clear();
+        long start = System.nanoTime();
+        trainingRepository.saveAll(trainings);
+        entityManager.flush();
+        long elapsed = System.nanoTime() - start;
+        entityManager.clear();
+        return elapsed;
+    }
+
+    private void report(String name, long elapsed, Statistics statistics) {
+        System.out.printf("%-10s %6d trainings %6d statements %8.2f ms%n", name, TRAININGS,
+                statistics.getPrepareStatementCount(), elapsed / 1_000_000.0);
+    }
+}
@@ -0,0 +1,70 @@
+package org.example.config.security;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class ActuatorSecurityTest {
+
+    private static final String ROLE_ADMIN = "ROLE_ADMIN";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("Should serve the info endpoint to anonymous callers")
+    void shouldServePublicEndpointsAnonymously() throws Exception {
+        mockMvc.perform(get("/actuator/info"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Should reject anonymous callers on operational endpoints")
+    void shouldRejectAnonymousCallersOnOperationalEndpoints() throws Exception {
+        mockMvc.perform(get("/actuator/loginabuse"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/actuator/heapdump"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(post("/actuator/securitytiming")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"enabled\":true}"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("Should deny operational endpoints to non-admin users")
+    void shouldDenyOperationalEndpointsToNonAdmins() throws Exception {
+        mockMvc.perform(get("/actuator/loginabuse"))
+                .andExpect(status().is3xxRedirection());
+    }
+
+    @Test
+    @WithMockUser(authorities = {ROLE_ADMIN})
+    @DisplayName("Should serve operational endpoints to admins")
+    void shouldServeOperationalEndpointsToAdmins() throws Exception {
+        mockMvc.perform(get("/actuator/loginabuse"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/actuator/securitytiming"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @WithMockUser(authorities = {ROLE_ADMIN})
+    @DisplayName("Should not expose heap dumps over the web")
+    void shouldNotExposeHeapDump() throws Exception {
+        mockMvc.perform(get("/actuator/heapdump"))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,27 @@
+package org.example.config.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BCryptStrengthCalibratorTest {
+
+    private static final long MILLIS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Test
+    @DisplayName("Should pick the highest strength whose doubled cost fits the budget")
+    void shouldPickHighestStrengthWithinBudget() {
+        assertEquals(11, BCryptStrengthCalibrator.strengthFor(12 * MILLIS, 8, 100 * MILLIS, 4, 31));
+        assertEquals(12, BCryptStrengthCalibrator.strengthFor(12 * MILLIS, 8, 200 * MILLIS, 4, 31));
+    }
+
+    @Test
+    @DisplayName("Should clamp strength to configured bounds")
+    void shouldClampStrengthToBounds() {
+        assertEquals(10, BCryptStrengthCalibrator.strengthFor(80 * MILLIS, 8, 100 * MILLIS, 10, 14));
+        assertEquals(14, BCryptStrengthCalibrator.strengthFor(MILLIS / 10, 8, 1_000 * MILLIS, 10, 14));
+    }
+}
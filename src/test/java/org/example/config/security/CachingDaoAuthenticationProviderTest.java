@@ -0,0 +1,114 @@
+package org.example.config.security;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class CachingDaoAuthenticationProviderTest {
+
+    private static final String USERNAME = "John.Doe";
+    private static final String PASSWORD = "0123456789";
+    private static final String WRONG_PASSWORD = "wrongPassword";
+    private static final String STORED_HASH = "$2a$10$storedHash";
+
+    private PasswordEncoder passwordEncoder;
+
+    private VerifiedCredentialCache verifiedCredentialCache;
+
+    private CachingDaoAuthenticationProvider authenticationProvider;
+
+    @BeforeEach
+    void setUp() {
+        passwordEncoder = mock(PasswordEncoder.class);
+        UserDetailsService userDetailsService = mock(UserDetailsService.class);
+        when(userDetailsService.loadUserByUsername(anyString())).thenAnswer(invocation -> User.builder()
+                .username(USERNAME)
+                .password(STORED_HASH)
+                .build());
+        when(passwordEncoder.matches(PASSWORD, STORED_HASH)).thenReturn(true);
+
+        verifiedCredentialCache = new VerifiedCredentialCache(true, 100, 60, new SimpleMeterRegistry());
+        authenticationProvider = new CachingDaoAuthenticationProvider(verifiedCredentialCache);
+        authenticationProvider.setUserDetailsService(userDetailsService);
+        authenticationProvider.setPasswordEncoder(passwordEncoder);
+    }
+
+    @Test
+    @DisplayName("Should verify password only once for repeated authentication")
+    void shouldVerifyPasswordOnceForRepeatedAuthentication() {
+        authenticationProvider.authenticate(token(PASSWORD));
+        authenticationProvider.authenticate(token(PASSWORD));
+
+        verify(passwordEncoder, times(1)).matches(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should verify password again after eviction")
+    void shouldVerifyPasswordAgainAfterEviction() {
+        authenticationProvider.authenticate(token(PASSWORD));
+        verifiedCredentialCache.evict(USERNAME);
+        authenticationProvider.authenticate(token(PASSWORD));
+
+        verify(passwordEncoder, times(2)).matches(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should reject wrong password after successful authentication")
+    void shouldRejectWrongPasswordAfterSuccessfulAuthentication() {
+        authenticationProvider.authenticate(token(PASSWORD));
+
+        assertThrows(BadCredentialsException.class, () -> authenticationProvider.authenticate(token(WRONG_PASSWORD)));
+    }
+
+    private UsernamePasswordAuthenticationToken token(String password) {
+        return UsernamePasswordAuthenticationToken.unauthenticated(USERNAME, password);
+    }
+
+    @Test
+    @DisplayName("Should re-encode legacy hash with the current strength after successful login")
+    void shouldReencodeLegacyHashAfterSuccessfulLogin() {
+        BCryptPasswordEncoder currentEncoder = new BCryptPasswordEncoder(5);
+        DelegatingPasswordEncoder delegatingEncoder = new DelegatingPasswordEncoder("bcrypt",
+                Map.of("bcrypt", currentEncoder));
+        delegatingEncoder.setDefaultPasswordEncoderForMatches(currentEncoder);
+        String legacyHash = new BCryptPasswordEncoder(4).encode(PASSWORD);
+        UserDetailsService userDetailsService = mock(UserDetailsService.class);
+        when(userDetailsService.loadUserByUsername(anyString()))
+                .thenAnswer(invocation -> User.builder().username(USERNAME).password(legacyHash).build());
+        UserDetailsPasswordService userDetailsPasswordService = mock(UserDetailsPasswordService.class);
+        when(userDetailsPasswordService.updatePassword(any(), anyString()))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        authenticationProvider.setUserDetailsService(userDetailsService);
+        authenticationProvider.setPasswordEncoder(delegatingEncoder);
+        authenticationProvider.setUserDetailsPasswordService(userDetailsPasswordService);
+
+        authenticationProvider.authenticate(token(PASSWORD));
+
+        ArgumentCaptor<String> upgradedHash = ArgumentCaptor.forClass(String.class);
+        verify(userDetailsPasswordService).updatePassword(any(), upgradedHash.capture());
+        assertTrue(upgradedHash.getValue().startsWith("{bcrypt}$2a$05$"));
+        assertTrue(delegatingEncoder.matches(PASSWORD, upgradedHash.getValue()));
+    }
+}
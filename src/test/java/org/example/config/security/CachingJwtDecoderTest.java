@@ -0,0 +1,88 @@
+package org.example.config.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class CachingJwtDecoderTest {
+
+    private static final String TOKEN = "header.payload.signature";
+    private static final String OTHER_TOKEN = "header.otherPayload.signature";
+    private static final Instant NOW = Instant.parse("2024-01-01T00:00:00Z");
+
+    private JwtDecoder delegate;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private CachingJwtDecoder cachingJwtDecoder;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(JwtDecoder.class);
+        meterRegistry = new SimpleMeterRegistry();
+        cachingJwtDecoder = new CachingJwtDecoder(delegate, 100, 600, meterRegistry,
+                Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("Should decode token only once when it is reused")
+    void shouldDecodeTokenOnceWhenReused() {
+        Jwt jwt = jwtExpiringAt(NOW.plus(1, ChronoUnit.HOURS));
+        when(delegate.decode(TOKEN)).thenReturn(jwt);
+
+        cachingJwtDecoder.decode(TOKEN);
+        Jwt result = cachingJwtDecoder.decode(TOKEN);
+
+        verify(delegate, times(1)).decode(anyString());
+        assertSame(jwt, result);
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("Should decode every distinct token")
+    void shouldDecodeEveryDistinctToken() {
+        when(delegate.decode(anyString())).thenReturn(jwtExpiringAt(NOW.plus(1, ChronoUnit.HOURS)));
+
+        cachingJwtDecoder.decode(TOKEN);
+        cachingJwtDecoder.decode(OTHER_TOKEN);
+
+        verify(delegate, times(2)).decode(anyString());
+    }
+
+    @Test
+    @DisplayName("Should not cache expired token")
+    void shouldNotCacheExpiredToken() {
+        when(delegate.decode(TOKEN)).thenReturn(jwtExpiringAt(NOW.minus(1, ChronoUnit.MINUTES)));
+
+        cachingJwtDecoder.decode(TOKEN);
+        cachingJwtDecoder.decode(TOKEN);
+
+        verify(delegate, times(2)).decode(TOKEN);
+    }
+
+    private Jwt jwtExpiringAt(Instant expiresAt) {
+        return Jwt.withTokenValue(TOKEN)
+                .header("alg", "HS512")
+                .subject("John.Doe")
+                .issuedAt(expiresAt.minus(1, ChronoUnit.HOURS))
+                .expiresAt(expiresAt)
+                .build();
+    }
+}
@@ -0,0 +1,115 @@
+package org.example.config.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class IpAccessFilterTest {
+
+    private static final String[] TRUSTED_PROXIES = {"10.0.0.0/8"};
+    private static final String[] ALLOW = {"203.0.113.7"};
+    private static final String[] DENY = {"203.0.113.0/24", "2001:db8::/32"};
+
+    private ClientAddressResolver clientAddressResolver;
+
+    private IpAccessFilter ipAccessFilter;
+
+    private MockHttpServletRequest request;
+
+    private MockHttpServletResponse response;
+
+    private MockFilterChain filterChain;
+
+    @BeforeEach
+    void setUp() {
+        clientAddressResolver = new ClientAddressResolver(TRUSTED_PROXIES);
+        ipAccessFilter = new IpAccessFilter(clientAddressResolver, ALLOW, DENY);
+        request = new MockHttpServletRequest("GET", "/api/trainees/John.Doe");
+        response = new MockHttpServletResponse();
+        filterChain = new MockFilterChain();
+    }
+
+    @Test
+    @DisplayName("Should reject request from denied range with 403")
+    void shouldRejectDeniedClient() throws Exception {
+        request.setRemoteAddr("203.0.113.20");
+
+        ipAccessFilter.doFilter(request, response, filterChain);
+
+        assertEquals(HttpStatus.FORBIDDEN.value(), response.getStatus());
+        assertNull(filterChain.getRequest());
+    }
+
+    @Test
+    @DisplayName("Should pass request from allowed address inside denied range")
+    void shouldPassAllowedClientInsideDeniedRange() throws Exception {
+        request.setRemoteAddr("203.0.113.7");
+
+        ipAccessFilter.doFilter(request, response, filterChain);
+
+        assertNotNull(filterChain.getRequest());
+    }
+
+    @Test
+    @DisplayName("Should reject address no rule matches once allow rules are configured")
+    void shouldRejectUnmatchedClientWithAllowRules() throws Exception {
+        request.setRemoteAddr("198.51.100.1");
+
+        ipAccessFilter.doFilter(request, response, filterChain);
+
+        assertEquals(HttpStatus.FORBIDDEN.value(), response.getStatus());
+        assertNull(filterChain.getRequest());
+    }
+
+    @Test
+    @DisplayName("Should pass address no rule matches when only deny rules are configured")
+    void shouldPassUnmatchedClientWithDenyRulesOnly() throws Exception {
+        ipAccessFilter = new IpAccessFilter(clientAddressResolver, new String[] {""}, DENY);
+        request.setRemoteAddr("198.51.100.1");
+
+        ipAccessFilter.doFilter(request, response, filterChain);
+
+        assertNotNull(filterChain.getRequest());
+    }
+
+    @Test
+    @DisplayName("Should use forwarded address only behind trusted proxies")
+    void shouldUseForwardedAddressBehindTrustedProxies() throws Exception {
+        request.setRemoteAddr("10.0.0.2");
+        request.addHeader("X-Forwarded-For", "198.51.100.1, 2001:db8::5 , 10.0.0.1");
+
+        ipAccessFilter.doFilter(request, response, filterChain);
+
+        assertEquals("2001:db8::5", clientAddressResolver.resolve(request));
+        assertEquals(HttpStatus.FORBIDDEN.value(), response.getStatus());
+    }
+
+    @Test
+    @DisplayName("Should ignore forwarded header from untrusted peer")
+    void shouldIgnoreForwardedHeaderFromUntrustedPeer() throws Exception {
+        request.setRemoteAddr("203.0.113.7");
+        request.addHeader("X-Forwarded-For", "10.0.0.7");
+
+        ipAccessFilter.doFilter(request, response, filterChain);
+
+        assertEquals("203.0.113.7", clientAddressResolver.resolve(request));
+        assertNotNull(filterChain.getRequest());
+    }
+
+    @Test
+    @DisplayName("Should stop at malformed forwarded hop")
+    void shouldStopAtMalformedForwardedHop() {
+        request.setRemoteAddr("10.0.0.2");
+        request.addHeader("X-Forwarded-For", "198.51.100.1, not-an-address, 10.0.0.1");
+
+        assertEquals("10.0.0.1", clientAddressResolver.resolve(request));
+    }
+}
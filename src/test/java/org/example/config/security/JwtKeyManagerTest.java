@@ -0,0 +1,177 @@
+package org.example.config.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.KeyUse;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+
+class JwtKeyManagerTest {
+
+    private static final String SECRET = "0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef";
+
+    @Test
+    @DisplayName("Should sign with ES256 and stamp the active key id")
+    void shouldSignWithEs256AndKeyId() {
+        JwtKeyManager jwtKeyManager = new JwtKeyManager(SECRET, "ES256", "", true, 3600);
+
+        Jwt jwt = jwtKeyManager.jwtDecoder().decode(encode(jwtKeyManager));
+
+        assertEquals("John.Doe", jwt.getSubject());
+        assertEquals("ES256", jwt.getHeaders().get("alg").toString());
+        assertEquals(jwtKeyManager.jwsHeader().getKeyId(), jwt.getHeaders().get("kid"));
+    }
+
+    @Test
+    @DisplayName("Should keep verifying tokens signed before rotation")
+    void shouldVerifyTokensSignedBeforeRotation() {
+        JwtKeyManager jwtKeyManager = new JwtKeyManager(SECRET, "RS256", "", true, 3600);
+        String token = encode(jwtKeyManager);
+        String keyId = jwtKeyManager.jwsHeader().getKeyId();
+
+        jwtKeyManager.rotate();
+
+        assertNotEquals(keyId, jwtKeyManager.jwsHeader().getKeyId());
+        assertEquals("John.Doe", jwtKeyManager.jwtDecoder().decode(token).getSubject());
+    }
+
+    @Test
+    @DisplayName("Should keep a retired key for the longest token lifetime after it stopped signing")
+    void shouldKeepRetiredKeyForTokenLifetimeAfterRetirement() {
+        Duration rotationInterval = Duration.ofDays(1);
+        Duration tokenTtl = Duration.ofDays(7);
+        MutableClock clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+        JwtKeyManager jwtKeyManager = new JwtKeyManager(SECRET, "RS256", "", true, tokenTtl.toSeconds(), clock);
+        clock.advance(rotationInterval.minusSeconds(1));
+        String token = encode(jwtKeyManager);
+        clock.advance(Duration.ofSeconds(1));
+        jwtKeyManager.rotate();
+        Instant retiredAt = clock.instant();
+
+        while (clock.instant().plus(rotationInterval).isBefore(retiredAt.plus(tokenTtl))) {
+            clock.advance(rotationInterval);
+            jwtKeyManager.rotate();
+        }
+        clock.set(retiredAt.plus(tokenTtl).minusSeconds(1));
+        jwtKeyManager.rotate();
+
+        assertEquals("John.Doe", jwtKeyManager.jwtDecoder().decode(token).getSubject());
+
+        clock.set(retiredAt.plus(tokenTtl).plusSeconds(1));
+        jwtKeyManager.rotate();
+
+        assertThrows(BadJwtException.class, () -> jwtKeyManager.jwtDecoder().decode(token));
+    }
+
+    @Test
+    @DisplayName("Should publish only public keys and change ETag on rotation")
+    void shouldPublishOnlyPublicKeys() throws Exception {
+        JwtKeyManager jwtKeyManager = new JwtKeyManager(SECRET, "RS256", "", true, 3600);
+        String etag = jwtKeyManager.getPublishedJwkSet().etag();
+
+        jwtKeyManager.rotate();
+
+        JWKSet published = JWKSet.parse(new String(jwtKeyManager.getPublishedJwkSet().body(), StandardCharsets.UTF_8));
+        assertEquals(2, published.getKeys().size());
+        assertTrue(published.getKeys().stream().noneMatch(key -> key.isPrivate()));
+        assertNotEquals(etag, jwtKeyManager.getPublishedJwkSet().etag());
+    }
+
+    @Test
+    @DisplayName("Should refuse asymmetric signing without a shared key set")
+    void shouldRefuseAsymmetricSigningWithoutSharedKeySet() {
+        assertThrows(IllegalStateException.class, () -> new JwtKeyManager(SECRET, "RS256", "", false, 3600));
+    }
+
+    @Test
+    @DisplayName("Should verify tokens across nodes that share a key set file")
+    void shouldVerifyTokensAcrossNodesSharingKeySet(@TempDir Path directory) throws Exception {
+        Path keySetFile = directory.resolve("jwks.json");
+        Files.writeString(keySetFile, new JWKSet(new RSAKeyGenerator(RSAKeyGenerator.MIN_KEY_SIZE_BITS)
+                .keyID("shared").keyUse(KeyUse.SIGNATURE).generate()).toString(false));
+        JwtKeyManager firstNode = new JwtKeyManager(SECRET, "RS256", keySetFile.toString(), false, 3600);
+        JwtKeyManager secondNode = new JwtKeyManager(SECRET, "RS256", keySetFile.toString(), false, 3600);
+
+        Jwt jwt = secondNode.jwtDecoder().decode(encode(firstNode));
+
+        assertEquals("John.Doe", jwt.getSubject());
+        assertEquals("shared", jwt.getHeaders().get("kid"));
+    }
+
+    @Test
+    @DisplayName("Should not publish the shared secret in HS512 mode")
+    void shouldNotPublishSharedSecret() throws Exception {
+        JwtKeyManager jwtKeyManager = new JwtKeyManager(SECRET, "HS512", "", false, 3600);
+
+        Jwt jwt = jwtKeyManager.jwtDecoder().decode(encode(jwtKeyManager));
+
+        assertEquals("John.Doe", jwt.getSubject());
+        assertFalse(jwt.getHeaders().containsKey("kid"));
+        JWKSet published = JWKSet.parse(new String(jwtKeyManager.getPublishedJwkSet().body(), StandardCharsets.UTF_8));
+        assertTrue(published.getKeys().isEmpty());
+    }
+
+    private static String encode(JwtKeyManager jwtKeyManager) {
+        Instant now = Instant.now();
+        JwtClaimsSet claims = JwtClaimsSet.builder()
+                .subject("John.Doe")
+                .issuedAt(now)
+                .expiresAt(now.plusSeconds(60))
+                .build();
+        return jwtKeyManager.jwtEncoder().encode(JwtEncoderParameters.from(jwtKeyManager.jwsHeader(), claims))
+                .getTokenValue();
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        void set(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package org.example.config.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.web.FilterChainProxy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletResponse;
+
+class TimingFilterChainDecoratorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private SecurityTiming securityTiming;
+
+    private TimingFilterChainDecorator decorator;
+
+    private final Filter passingFilter = new PassingFilter();
+
+    private final Filter rejectingFilter = new RejectingFilter();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        securityTiming = new SecurityTiming(true, meterRegistry);
+        decorator = new TimingFilterChainDecorator(new FilterChainProxy.VirtualFilterChainDecorator(), securityTiming);
+    }
+
+    @Test
+    @DisplayName("Should time each filter and tag how it finished")
+    void shouldTimeEachFilterWithOutcome() throws Exception {
+        MockFilterChain servlet = new MockFilterChain();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        decorator.decorate(servlet, List.of(passingFilter, rejectingFilter))
+                .doFilter(new MockHttpServletRequest(), response);
+
+        assertNull(servlet.getRequest());
+        assertEquals(HttpStatus.UNAUTHORIZED.value(), response.getStatus());
+        assertEquals(1, count("PassingFilter", SecurityTiming.OUTCOME_PROCEEDED));
+        assertEquals(1, count("RejectingFilter", SecurityTiming.OUTCOME_RESPONDED));
+    }
+
+    @Test
+    @DisplayName("Should not record anything while disabled")
+    void shouldNotRecordWhileDisabled() throws Exception {
+        securityTiming.setEnabled(false);
+        MockFilterChain servlet = new MockFilterChain();
+
+        decorator.decorate(servlet, List.of(passingFilter))
+                .doFilter(new MockHttpServletRequest(), new MockHttpServletResponse());
+
+        assertNotNull(servlet.getRequest());
+        assertNull(meterRegistry.find("security.filter").timer());
+    }
+
+    private long count(String filter, String outcome) {
+        return meterRegistry.get("security.filter").tag("filter", filter).tag("outcome", outcome).timer().count();
+    }
+
+    private static class PassingFilter implements Filter {
+
+        @Override
+        public void doFilter(ServletRequest request, ServletResponse response,
+                             FilterChain chain) throws IOException, ServletException {
+            chain.doFilter(request, response);
+        }
+    }
+
+    private static class RejectingFilter implements Filter {
+
+        @Override
+        public void doFilter(ServletRequest request, ServletResponse response,
+                             FilterChain chain) {
+            ((HttpServletResponse) response).setStatus(HttpStatus.UNAUTHORIZED.value());
+        }
+    }
+}
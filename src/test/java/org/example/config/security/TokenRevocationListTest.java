@@ -0,0 +1,78 @@
+package org.example.config.security;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.example.model.RevokedToken;
+import org.example.repository.RevokedTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TokenRevocationListTest {
+
+    private static final String TOKEN_ID = "5b1c0d7e-0000-4000-8000-000000000001";
+
+    private RevokedTokenRepository revokedTokenRepository;
+
+    private TokenRevocationList tokenRevocationList;
+
+    @BeforeEach
+    void setUp() {
+        revokedTokenRepository = mock(RevokedTokenRepository.class);
+        tokenRevocationList = new TokenRevocationList(revokedTokenRepository, 1_000, 0.01);
+    }
+
+    @Test
+    @DisplayName("Should report revoked token and persist it")
+    void shouldReportRevokedToken() {
+        Instant expiresAt = Instant.now().plusSeconds(60);
+        when(revokedTokenRepository.insertIfAbsent(eq(TOKEN_ID), eq(expiresAt), any())).thenReturn(1);
+
+        assertTrue(tokenRevocationList.revoke(TOKEN_ID, expiresAt));
+
+        assertTrue(tokenRevocationList.isRevoked(TOKEN_ID));
+        assertFalse(tokenRevocationList.isRevoked("another-token"));
+    }
+
+    @Test
+    @DisplayName("Should report a token already revoked in the database as not revoked by this call")
+    void shouldReportTokenAlreadyRevokedInStore() {
+        when(revokedTokenRepository.insertIfAbsent(eq(TOKEN_ID), any(), any())).thenReturn(0);
+
+        assertFalse(tokenRevocationList.revoke(TOKEN_ID, Instant.now().plusSeconds(60)));
+        assertTrue(tokenRevocationList.isRevoked(TOKEN_ID));
+    }
+
+    @Test
+    @DisplayName("Should pick up tokens revoked by other nodes on synchronize")
+    void shouldPickUpTokensRevokedElsewhere() {
+        when(revokedTokenRepository.findByRevokedAtAfter(any())).thenReturn(List.of(
+                new RevokedToken(TOKEN_ID, Instant.now().plusSeconds(60), Instant.now())));
+
+        tokenRevocationList.synchronize();
+
+        assertTrue(tokenRevocationList.isRevoked(TOKEN_ID));
+    }
+
+    @Test
+    @DisplayName("Should forget expired tokens on purge")
+    void shouldForgetExpiredTokensOnPurge() {
+        tokenRevocationList.revoke(TOKEN_ID, Instant.now().minusSeconds(1));
+        tokenRevocationList.revoke("still-valid", Instant.now().plusSeconds(60));
+
+        tokenRevocationList.purgeExpired();
+
+        assertFalse(tokenRevocationList.isRevoked(TOKEN_ID));
+        assertTrue(tokenRevocationList.isRevoked("still-valid"));
+        verify(revokedTokenRepository).deleteByExpiresAtBefore(any());
+    }
+}
@@ -0,0 +1,130 @@
+package org.example.config.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+
+import org.example.event.UserAccountChangedEvent;
+import org.example.exception.notfound.UserNotFoundException;
+import org.example.exception.security.BlockedRequestException;
+import org.example.model.User;
+import org.example.repository.UserRepository;
+import org.example.service.LoginAttemptService;
+import org.example.utils.dummydata.UserDummyDataFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.security.core.CredentialsContainer;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(SpringExtension.class)
+@ContextConfiguration(classes = {UserDetailsServiceImpl.class, UserDetailsCache.class, SimpleMeterRegistry.class})
+@RecordApplicationEvents
+class UserDetailsServiceImplTest {
+
+    private static final String UPGRADED_HASH = "{bcrypt}$2a$12$upgradedHash";
+
+    @MockBean
+    private UserRepository userRepository;
+
+    @MockBean
+    private LoginAttemptService loginAttemptService;
+
+    @Autowired
+    private UserDetailsCache userDetailsCache;
+
+    @Autowired
+    private UserDetailsServiceImpl userDetailsService;
+
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
+    private User userUnderTest;
+
+    @BeforeEach
+    void setUp() {
+        userUnderTest = UserDummyDataFactory.getUserJohnDoe();
+        userDetailsCache.removeUserFromCache(userUnderTest.getUsername());
+    }
+
+    @Test
+    @DisplayName("Should hit repository only once when loadUserByUsername is called repeatedly")
+    void shouldHitRepositoryOnceWhenLoadUserByUsernameIsRepeated() {
+        when(userRepository.findByUsername(anyString())).thenReturn(Optional.of(userUnderTest));
+
+        userDetailsService.loadUserByUsername(userUnderTest.getUsername());
+        UserDetails result = userDetailsService.loadUserByUsername(userUnderTest.getUsername());
+
+        verify(userRepository, times(1)).findByUsername(userUnderTest.getUsername());
+        assertEquals(userUnderTest.getPassword(), result.getPassword());
+    }
+
+    @Test
+    @DisplayName("Should keep cached password when returned principal credentials are erased")
+    void shouldKeepCachedPasswordWhenReturnedPrincipalIsErased() {
+        when(userRepository.findByUsername(anyString())).thenReturn(Optional.of(userUnderTest));
+
+        UserDetails first = userDetailsService.loadUserByUsername(userUnderTest.getUsername());
+        ((CredentialsContainer) first).eraseCredentials();
+        UserDetails second = userDetailsService.loadUserByUsername(userUnderTest.getUsername());
+
+        assertEquals(userUnderTest.getPassword(), second.getPassword());
+    }
+
+    @Test
+    @DisplayName("Should reload user from repository after cache eviction")
+    void shouldReloadUserAfterCacheEviction() {
+        when(userRepository.findByUsername(anyString())).thenReturn(Optional.of(userUnderTest));
+
+        userDetailsService.loadUserByUsername(userUnderTest.getUsername());
+        userDetailsCache.removeUserFromCache(userUnderTest.getUsername());
+        userDetailsService.loadUserByUsername(userUnderTest.getUsername());
+
+        verify(userRepository, times(2)).findByUsername(userUnderTest.getUsername());
+    }
+
+    @Test
+    @DisplayName("Should throw UserNotFoundException for unknown username")
+    void shouldThrowUserNotFoundExceptionForUnknownUsername() {
+        when(userRepository.findByUsername(anyString())).thenReturn(Optional.empty());
+
+        assertThrows(UserNotFoundException.class, () -> userDetailsService.loadUserByUsername("Bad.Username"));
+    }
+
+    @Test
+    @DisplayName("Should throw BlockedRequestException when client is blocked")
+    void shouldThrowBlockedRequestExceptionWhenClientIsBlocked() {
+        when(loginAttemptService.isBlocked(userUnderTest.getUsername())).thenReturn(true);
+
+        assertThrows(BlockedRequestException.class,
+                () -> userDetailsService.loadUserByUsername(userUnderTest.getUsername()));
+    }
+
+    @Test
+    @DisplayName("Should store upgraded hash and evict cached principal when updatePassword is called")
+    void shouldStoreUpgradedHashWhenUpdatePasswordIsCalled() {
+        when(userRepository.findByUsername(anyString())).thenReturn(Optional.of(userUnderTest));
+        UserDetails loaded = userDetailsService.loadUserByUsername(userUnderTest.getUsername());
+
+        UserDetails updated = userDetailsService.updatePassword(loaded, UPGRADED_HASH);
+
+        assertEquals(UPGRADED_HASH, updated.getPassword());
+        assertEquals(UPGRADED_HASH, userUnderTest.getPassword());
+        verify(userRepository).save(userUnderTest);
+        assertEquals(1, applicationEvents.stream(UserAccountChangedEvent.class).count());
+    }
+}
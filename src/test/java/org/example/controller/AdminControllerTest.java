@@ -0,0 +1,129 @@
+package org.example.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+
+import org.example.model.Trainee;
+import org.example.service.TraineeService;
+import org.example.service.TrainerService;
+import org.example.service.TrainingService;
+import org.example.utils.dummydata.TraineeDummyDataFactory;
+import org.example.utils.dummydata.TrainerDummyDataFactory;
+import org.example.utils.dummydata.TrainingDummyDataFactory;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.PropertyReferenceException;
+import org.springframework.data.util.TypeInformation;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class AdminControllerTest {
+
+    private static final String URL_TEMPLATE = "/api/admin";
+    private static final String URL_TRAINEES = "/trainees";
+    private static final String URL_TRAINERS = "/trainers";
+    private static final String URL_TRAININGS = "/trainings";
+
+    private static final String PARAM_SIZE = "size";
+    private static final String PARAM_SORT = "sort";
+
+    private static final String ROLE_ADMIN = "ROLE_ADMIN";
+    private static final int MAX_PAGE_SIZE = 100;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private TraineeService traineeService;
+
+    @MockBean
+    private TrainerService trainerService;
+
+    @MockBean
+    private TrainingService trainingService;
+
+    @Test
+    @WithMockUser(authorities = {ROLE_ADMIN})
+    void shouldReturnPageOfTraineesWithCappedPageSize() throws Exception {
+        List<Trainee> trainees = TraineeDummyDataFactory.getTraineesForTrainerUnderTest();
+        when(traineeService.getAllTrainees(any()))
+                .thenReturn(new PageImpl<>(trainees, PageRequest.of(0, MAX_PAGE_SIZE), 250));
+
+        mockMvc.perform(get(URL_TEMPLATE + URL_TRAINEES)
+                        .param(PARAM_SIZE, "10000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(trainees.size()))
+                .andExpect(jsonPath("$.totalElements").value(250))
+                .andExpect(jsonPath("$.totalPages").value(3));
+
+        ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+        verify(traineeService).getAllTrainees(pageable.capture());
+        assertEquals(MAX_PAGE_SIZE, pageable.getValue().getPageSize());
+        assertEquals(Sort.by("id"), pageable.getValue().getSort());
+    }
+
+    @Test
+    @WithMockUser(authorities = {ROLE_ADMIN})
+    void shouldPassRequestedSortWhenListingTrainers() throws Exception {
+        when(trainerService.getAllTrainers(any()))
+                .thenReturn(new PageImpl<>(TrainerDummyDataFactory.getUnassignedTrainers()));
+
+        mockMvc.perform(get(URL_TEMPLATE + URL_TRAINERS)
+                        .param(PARAM_SORT, "user.lastName,desc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].specialization").exists());
+
+        ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+        verify(trainerService).getAllTrainers(pageable.capture());
+        assertEquals(Sort.by(Sort.Direction.DESC, "user.lastName"), pageable.getValue().getSort());
+    }
+
+    @Test
+    @WithMockUser(authorities = {ROLE_ADMIN})
+    void shouldReturnBadRequestForUnknownSortProperty() throws Exception {
+        when(trainingService.getAllTrainings(any())).thenThrow(
+                new PropertyReferenceException("unknown", TypeInformation.of(Trainee.class), List.of()));
+
+        mockMvc.perform(get(URL_TEMPLATE + URL_TRAININGS)
+                        .param(PARAM_SORT, "unknown"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser(authorities = {ROLE_ADMIN})
+    void shouldReturnPageOfTrainings() throws Exception {
+        when(trainingService.getAllTrainings(any()))
+                .thenReturn(new PageImpl<>(TrainingDummyDataFactory.getTrainingsForTrainee()));
+
+        mockMvc.perform(get(URL_TEMPLATE + URL_TRAININGS))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(2));
+    }
+
+    @Test
+    @WithMockUser
+    void shouldDenyListingForNonAdminUser() throws Exception {
+        mockMvc.perform(get(URL_TEMPLATE + URL_TRAINEES))
+                .andExpect(status().is3xxRedirection());
+
+        verify(traineeService, never()).getAllTrainees(any());
+    }
+}
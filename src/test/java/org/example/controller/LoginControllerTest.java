@@ -7,6 +7,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import java.util.Collections;
 
 import org.example.dto.credentials.CredentialsDTO;
+import org.example.dto.security.TokenDTO;
 import org.example.enums.RoleName;
 import org.example.service.TokenService;
 import org.junit.jupiter.api.Test;
@@ -55,7 +56,11 @@ class LoginControllerTest {
                 Collections.singletonList(RoleName.USER)
         );
 
-        when(tokenService.generateToken(authentication)).thenReturn("jwt");
+        when(tokenService.generateTokens(authentication)).thenReturn(TokenDTO.builder()
+                .accessToken("jwt")
+                .refreshToken("refresh")
+                .tokenType("Bearer")
+                .build());
 
         mockMvc.perform(post(URL_TEMPLATE)
                         .contentType(MediaType.APPLICATION_JSON)
@@ -1,7 +1,9 @@
 package org.example.controller;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -15,7 +17,12 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.util.List;
+
 import org.example.dto.credentials.CredentialsUpdateDTO;
+import org.example.dto.registration.BulkRegistrationDTO;
+import org.example.dto.registration.RegistrationRequestDTO;
+import org.example.dto.registration.RegistrationResultDTO;
 import org.example.dto.trainee.TraineeUpdateDTO;
 import org.example.exception.notfound.TraineeNotFoundException;
 import org.example.model.Trainee;
@@ -23,6 +30,7 @@ import org.example.service.TraineeService;
 import org.example.utils.dummydata.TraineeDummyDataFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -41,6 +49,7 @@ public class TraineeControllerTest {
     private static final String URL_TEMPLATE = "/api/trainees";
     private static final String URL_CHANGE_LOGIN = "/change-login";
     private static final String URL_USERNAME = "/{username}";
+    private static final String URL_BULK = "/bulk";
 
     private static final String USERNAME = "John.Doe";
     private static final String PASSWORD = "0123456789";
@@ -336,4 +345,63 @@ public class TraineeControllerTest {
 
         verify(traineeService, never()).toggleTraineeActivation(anyString(), anyBoolean());
     }
+
+    @Test
+    @WithMockUser(authorities = {ROLE_ADMIN})
+    void bulkTraineeRegistrationReturnsPerRowResults() throws Exception {
+        BulkRegistrationDTO registration = BulkRegistrationDTO.of(List.of(
+                RegistrationResultDTO.created(1, USERNAME, PASSWORD),
+                RegistrationResultDTO.failed(2, "First name and last name are required")));
+        when(traineeService.createTrainees(anyList())).thenReturn(registration);
+
+        mockMvc.perform(post(URL_TEMPLATE + URL_BULK)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"firstName\":\"John\",\"lastName\":\"Doe\",\"dateOfBirth\":\"1990-01-01\"},"
+                                + "{\"firstName\":\"\"}]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.results[0].username").value(USERNAME))
+                .andExpect(jsonPath("$.results[1].error").exists())
+                .andExpect(jsonPath("$.results[1].username").doesNotExist());
+    }
+
+    @Test
+    @WithMockUser(authorities = {ROLE_ADMIN})
+    @SuppressWarnings("unchecked")
+    void bulkTraineeRegistrationAcceptsCsv() throws Exception {
+        when(traineeService.createTrainees(anyList())).thenReturn(BulkRegistrationDTO.of(List.of()));
+
+        mockMvc.perform(post(URL_TEMPLATE + URL_BULK)
+                        .contentType("text/csv")
+                        .content("firstName,lastName,dateOfBirth,address\nJohn,Doe,1990-01-01,\"Main St 1, Belgrade\"\n"))
+                .andExpect(status().isOk());
+
+        ArgumentCaptor<List<RegistrationRequestDTO>> requests = ArgumentCaptor.forClass(List.class);
+        verify(traineeService).createTrainees(requests.capture());
+        assertEquals(FIRST_NAME, requests.getValue().get(0).getFirstName());
+        assertEquals("Main St 1, Belgrade", requests.getValue().get(0).getAddress());
+    }
+
+    @Test
+    @WithMockUser(authorities = {ROLE_ADMIN})
+    void bulkTraineeRegistrationReturnsBadRequestForMalformedCsv() throws Exception {
+        mockMvc.perform(post(URL_TEMPLATE + URL_BULK)
+                        .contentType("text/csv")
+                        .content("firstName,lastName,dateOfBirth\nJohn,Doe,01/01/1990\n"))
+                .andExpect(status().isBadRequest());
+
+        verify(traineeService, never()).createTrainees(anyList());
+    }
+
+    @Test
+    @WithMockUser(authorities = {ROLE_TEST})
+    void bulkTraineeRegistrationIsDeniedForNonAdmin() throws Exception {
+        mockMvc.perform(post(URL_TEMPLATE + URL_BULK)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().is3xxRedirection());
+
+        verify(traineeService, never()).createTrainees(anyList());
+    }
 }
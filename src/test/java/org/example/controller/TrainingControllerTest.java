@@ -1,29 +1,53 @@
 package org.example.controller;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.util.Date;
 import java.util.List;
+import java.util.function.Consumer;
 
+import org.example.dto.page.CursorPageDTO;
 import org.example.dto.training.TrainingCreateDTO;
+import org.example.dto.training.TrainingExportDTO;
+import org.example.dto.training.TrainingHistoryDTO;
+import org.example.dto.training.TrainingImportErrorDTO;
+import org.example.dto.training.TrainingImportProgressDTO;
 import org.example.enums.TrainingTypeName;
+import org.example.exception.date.IllegalDateArgumentException;
 import org.example.model.Training;
 import org.example.model.TrainingType;
+import org.example.service.TrainingImportService;
 import org.example.service.TrainingService;
 import org.example.utils.dummydata.TrainingDummyDataFactory;
 import org.example.utils.dummydata.TrainingTypeDummyDataFactory;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -35,15 +59,22 @@ class TrainingControllerTest {
     private static final String URL_TRAINEE = "/trainee";
     private static final String URL_TRAINER = "/trainer";
     private static final String URL_TRAINING_TYPES = "/training-types";
+    private static final String URL_EXPORT = "/export";
+    private static final String URL_IMPORT = "/import";
 
     private static final String PARAM_USERNAME = "username";
     private static final String PARAM_TRAINER_NAME = "trainerName";
     private static final String PARAM_TRAINING_TYPE = "trainingType";
+    private static final String PARAM_FORMAT = "format";
 
     private static final String TRAINEE_USERNAME = "John.Doe";
     private static final String TRAINER_USERNAME = "Joe.Johnson";
     private static final Date TRAINING_DATE = new Date();
     private static final int TRAINING_DURATION = 30;
+    private static final String NEXT_CURSOR = "AAABjAAAAAAAAAAAAAAAAg";
+
+    private static final String JSON_PATH_CONTENT_SIZE = "$.content.length()";
+    private static final String JSON_PATH_NEXT_CURSOR = "$.nextCursor";
 
     private final ObjectMapper objectMapper;
 
@@ -53,6 +84,9 @@ class TrainingControllerTest {
     @MockBean
     private TrainingService trainingService;
 
+    @MockBean
+    private TrainingImportService trainingImportService;
+
     @Autowired
     public TrainingControllerTest(ObjectMapper objectMapper) {
         this.objectMapper = objectMapper;
@@ -61,24 +95,28 @@ class TrainingControllerTest {
     @Test
     @WithMockUser
     void getTraineeTrainingsList() throws Exception {
-        List<Training> trainings = TrainingDummyDataFactory.getTrainingsForTrainee();
+        CursorPageDTO<TrainingHistoryDTO> trainings =
+                new CursorPageDTO<>(TrainingDummyDataFactory.getTrainingHistory(), NEXT_CURSOR);
 
-        when(trainingService.getTraineeTrainingList(any(), any(), any(), any(), any()))
+        when(trainingService.getTraineeTrainingList(any(), any(), any(), any(), any(), any(), any()))
                 .thenReturn(trainings);
 
         mockMvc.perform(get(URL_TEMPLATE + URL_TRAINEE)
                         .param(PARAM_USERNAME, TRAINEE_USERNAME)
                         .param(PARAM_TRAINER_NAME, TRAINER_USERNAME)
                         .param(PARAM_TRAINING_TYPE, TrainingTypeName.AEROBIC.name()))
-                .andExpect(status().isOk());
+                .andExpect(status().isOk())
+                .andExpect(jsonPath(JSON_PATH_CONTENT_SIZE).value(2))
+                .andExpect(jsonPath(JSON_PATH_NEXT_CURSOR).value(NEXT_CURSOR));
     }
 
     @Test
     @WithMockUser
     void getTrainerTrainingsList() throws Exception {
-        List<Training> trainings = TrainingDummyDataFactory.getTrainingsForTrainer();
+        CursorPageDTO<TrainingHistoryDTO> trainings =
+                new CursorPageDTO<>(TrainingDummyDataFactory.getTrainingHistory(), null);
 
-        when(trainingService.getTrainerTrainingList(any(), any(), any(), any()))
+        when(trainingService.getTrainerTrainingList(any(), any(), any(), any(), any(), any()))
                 .thenReturn(trainings);
 
         mockMvc.perform(get(URL_TEMPLATE + URL_TRAINER)
@@ -133,4 +171,105 @@ class TrainingControllerTest {
         mockMvc.perform(get(URL_TEMPLATE + URL_TRAINING_TYPES))
                 .andExpect(status().isOk());
     }
+
+    @Test
+    @WithMockUser(authorities = {"ROLE_ADMIN"})
+    @SuppressWarnings("unchecked")
+    void exportTrainingsStreamsCsvAttachment() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<TrainingExportDTO> consumer = invocation.getArgument(3);
+            consumer.accept(new TrainingExportDTO(1L, new Date(0), "Morning run", TrainingTypeName.AEROBIC,
+                    TRAINING_DURATION, TRAINER_USERNAME, TRAINEE_USERNAME));
+            return 1L;
+        }).when(trainingService).exportTrainings(eq(TRAINER_USERNAME), isNull(), isNull(), any(Consumer.class));
+
+        MvcResult result = mockMvc.perform(get(URL_TEMPLATE + URL_EXPORT)
+                        .param(PARAM_TRAINER_NAME, TRAINER_USERNAME)
+                        .param(PARAM_FORMAT, "CSV"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"trainings.csv\""))
+                .andExpect(content().contentTypeCompatibleWith("text/csv"))
+                .andExpect(content().string(
+                        "id,trainingDate,trainingName,trainingType,trainingDuration,trainerUsername,traineeUsername\n"
+                                + "1,1970-01-01T00:00:00Z,Morning run,AEROBIC,30,Joe.Johnson,John.Doe\n"));
+    }
+
+    @Test
+    @WithMockUser(authorities = {"ROLE_ADMIN"})
+    @SuppressWarnings("unchecked")
+    void exportTrainingsRejectsInvalidPeriodBeforeStreaming() throws Exception {
+        doThrow(new IllegalDateArgumentException("'Period to' date must be after 'period from' date"))
+                .when(trainingService).checkExportPeriod(any(Date.class), any(Date.class));
+
+        mockMvc.perform(get(URL_TEMPLATE + URL_EXPORT)
+                        .param(PARAM_FORMAT, "CSV")
+                        .param("periodFrom", "2024/02/01")
+                        .param("periodTo", "2024/01/01"))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isBadRequest());
+
+        verify(trainingService).checkExportPeriod(any(Date.class), any(Date.class));
+        verify(trainingService, never()).exportTrainings(any(), any(), any(), any(Consumer.class));
+    }
+
+    @Test
+    @WithMockUser
+    @SuppressWarnings("unchecked")
+    void exportTrainingsIsDeniedForNonAdmin() throws Exception {
+        mockMvc.perform(get(URL_TEMPLATE + URL_EXPORT))
+                .andExpect(status().is3xxRedirection());
+
+        verify(trainingService, never()).exportTrainings(any(), any(), any(), any(Consumer.class));
+    }
+
+    @Test
+    @WithMockUser(authorities = {"ROLE_ADMIN"})
+    @SuppressWarnings("unchecked")
+    void importTrainingsStreamsProgressPerChunk() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<TrainingImportProgressDTO> listener = invocation.getArgument(1);
+            listener.accept(new TrainingImportProgressDTO(1, 2, 1, 0, List.of()));
+            TrainingImportProgressDTO done = new TrainingImportProgressDTO(2, 2, 1, 1,
+                    List.of(new TrainingImportErrorDTO(2, "Trainer not found")));
+            listener.accept(done);
+            return done;
+        }).when(trainingImportService).importTrainings(any(), any(Consumer.class));
+
+        MvcResult result = mockMvc.perform(post(URL_TEMPLATE + URL_IMPORT)
+                        .contentType("text/csv")
+                        .content("traineeUsername,trainerUsername,trainingType,trainingDate,trainingDuration\n"
+                                + "John.Doe,Joe.Johnson,aerobic,2024-01-01,30\n"
+                                + "John.Doe,Nobody,AEROBIC,2024-01-01T10:00:00Z,30\n"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String[] lines = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+                .andReturn().getResponse().getContentAsString().split("\n");
+
+        assertEquals(2, lines.length);
+        assertFalse(objectMapper.readTree(lines[0]).get("done").asBoolean());
+        assertEquals("Trainer not found", objectMapper.readTree(lines[1]).at("/errors/0/error").asText());
+        ArgumentCaptor<List<TrainingCreateDTO>> rows = ArgumentCaptor.forClass(List.class);
+        verify(trainingImportService).importTrainings(rows.capture(), any(Consumer.class));
+        assertEquals(TrainingTypeName.AEROBIC, rows.getValue().get(0).getTrainingTypeName());
+        assertEquals(30, rows.getValue().get(1).getTrainingDuration());
+    }
+
+    @Test
+    @WithMockUser
+    @SuppressWarnings("unchecked")
+    void importTrainingsIsDeniedForNonAdmin() throws Exception {
+        mockMvc.perform(post(URL_TEMPLATE + URL_IMPORT)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().is3xxRedirection());
+
+        verify(trainingImportService, never()).importTrainings(any(), any(Consumer.class));
+    }
 }
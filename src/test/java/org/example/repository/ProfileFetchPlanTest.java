@@ -0,0 +1,99 @@
+package org.example.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.example.dto.trainee.TraineeDTO;
+import org.example.dto.trainer.TrainerDTO;
+import org.example.enums.TrainingTypeName;
+import org.example.model.Trainee;
+import org.example.model.Trainer;
+import org.example.model.TrainingType;
+import org.example.utils.H2DataJpaTest;
+import org.example.utils.converter.TraineeConverter;
+import org.example.utils.converter.TrainerConverter;
+import org.example.utils.dummydata.TraineeDummyDataFactory;
+import org.example.utils.dummydata.TrainerDummyDataFactory;
+import org.example.utils.dummydata.TrainingTypeDummyDataFactory;
+import org.example.utils.dummydata.UserDummyDataFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+@H2DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class ProfileFetchPlanTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TraineeRepository traineeRepository;
+
+    @Autowired
+    private TrainerRepository trainerRepository;
+
+    private Statistics statistics;
+
+    private TrainingType trainingType;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        trainingType = entityManager.persist(TrainingTypeDummyDataFactory.getTrainingType(TrainingTypeName.AEROBIC));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10})
+    @DisplayName("Should read trainee profile with one statement whatever the number of trainers")
+    void shouldReadTraineeProfileWithOneStatement(int trainerCount) {
+        Trainee trainee = newTrainee("Trainee.Profile");
+        for (int i = 0; i < trainerCount; i++) {
+            trainee.getTrainerList().add(entityManager.persist(newTrainer("Trainer.Profile" + i)));
+        }
+        entityManager.persist(trainee);
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        TraineeDTO traineeDTO = TraineeConverter.convertToDto(
+                traineeRepository.findWithTrainersByUserUsername("Trainee.Profile").orElseThrow());
+
+        assertEquals(trainerCount, traineeDTO.getTrainerEmbeddedDTOList().size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10})
+    @DisplayName("Should read trainer profile with one statement whatever the number of trainees")
+    void shouldReadTrainerProfileWithOneStatement(int traineeCount) {
+        Trainer trainer = entityManager.persist(newTrainer("Trainer.Profile"));
+        for (int i = 0; i < traineeCount; i++) {
+            Trainee trainee = newTrainee("Trainee.Profile" + i);
+            trainee.getTrainerList().add(trainer);
+            entityManager.persist(trainee);
+        }
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        TrainerDTO trainerDTO = TrainerConverter.convertToDto(
+                trainerRepository.findWithTraineesByUserUsername("Trainer.Profile").orElseThrow());
+
+        assertEquals(traineeCount, trainerDTO.getTraineeEmbeddedDTOList().size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    private Trainee newTrainee(String username) {
+        return TraineeDummyDataFactory.getTrainee(UserDummyDataFactory.getUser("First", "Last", username));
+    }
+
+    private Trainer newTrainer(String username) {
+        return TrainerDummyDataFactory.getTrainer(UserDummyDataFactory.getUser("First", "Last", username),
+                trainingType);
+    }
+}
@@ -0,0 +1,29 @@
+package org.example.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Instant;
+
+import org.example.utils.H2DataJpaTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+@H2DataJpaTest
+class RevokedTokenRepositoryTest {
+
+    private static final String TOKEN_ID = "5b1c0d7e-0000-4000-8000-000000000001";
+
+    @Autowired
+    private RevokedTokenRepository revokedTokenRepository;
+
+    @Test
+    @DisplayName("Should insert a revoked token id only once")
+    void shouldInsertRevokedTokenIdOnlyOnce() {
+        Instant expiresAt = Instant.now().plusSeconds(60);
+
+        assertEquals(1, revokedTokenRepository.insertIfAbsent(TOKEN_ID, expiresAt, Instant.now()));
+        assertEquals(0, revokedTokenRepository.insertIfAbsent(TOKEN_ID, expiresAt, Instant.now()));
+        assertEquals(1, revokedTokenRepository.count());
+    }
+}
@@ -0,0 +1,174 @@
+package org.example.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.example.dto.training.TrainingExportDTO;
+import org.example.dto.training.TrainingHistoryDTO;
+import org.example.enums.TrainingTypeName;
+import org.example.model.Trainee;
+import org.example.model.Trainer;
+import org.example.model.Training;
+import org.example.model.TrainingType;
+import org.example.utils.H2DataJpaTest;
+import org.example.utils.converter.TrainingConverter;
+import org.example.utils.dummydata.TraineeDummyDataFactory;
+import org.example.utils.dummydata.TrainerDummyDataFactory;
+import org.example.utils.dummydata.TrainingDummyDataFactory;
+import org.example.utils.dummydata.TrainingTypeDummyDataFactory;
+import org.example.utils.dummydata.UserDummyDataFactory;
+import org.example.utils.pagination.TrainingCursor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+
+@H2DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class TrainingRepositoryTest {
+
+    private static final Date PERIOD_FROM = new Date(0);
+    private static final Date PERIOD_TO = new Date(Long.MAX_VALUE / 2);
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TrainingRepository trainingRepository;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        TrainingType aerobic = entityManager.persist(
+                TrainingTypeDummyDataFactory.getTrainingType(TrainingTypeName.AEROBIC));
+        TrainingType strength = entityManager.persist(
+                TrainingTypeDummyDataFactory.getTrainingType(TrainingTypeName.STRENGTH));
+        Trainee trainee = entityManager.persist(
+                TraineeDummyDataFactory.getTrainee(UserDummyDataFactory.getUser("Trainee", "One")));
+        Trainer joe = entityManager.persist(
+                TrainerDummyDataFactory.getTrainer(UserDummyDataFactory.getUserJoeJohnson(), aerobic));
+        Trainer peter = entityManager.persist(
+                TrainerDummyDataFactory.getTrainer(UserDummyDataFactory.getUserPeterPeterson(), strength));
+        for (int i = 0; i < 5; i++) {
+            Date trainingDate = new Date(1_000_000L * (i + 1));
+            entityManager.persist(TrainingDummyDataFactory.getTraining(trainee, joe, aerobic, trainingDate));
+            entityManager.persist(TrainingDummyDataFactory.getTraining(trainee, peter, strength, trainingDate));
+        }
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("Should project trainee history in one statement ordered by date")
+    void shouldProjectTraineeHistoryInOneStatement() {
+        List<TrainingHistoryDTO> history = traineeHistory(null, null);
+
+        assertEquals(10, history.size());
+        assertEquals("Joe", history.get(0).getTrainerFirstName());
+        assertEquals("Peterson", history.get(1).getTrainerLastName());
+        assertEquals(TrainingTypeName.STRENGTH, history.get(1).getTrainingTypeName());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    @DisplayName("Should filter trainee history by trainer and training type")
+    void shouldFilterTraineeHistory() {
+        assertEquals(5, traineeHistory("Joe.Johnson", null).size());
+        assertEquals(5, traineeHistory(null, TrainingTypeName.STRENGTH).size());
+        assertEquals(0, traineeHistory("Joe.Johnson", TrainingTypeName.STRENGTH).size());
+    }
+
+    @Test
+    @DisplayName("Should project trainer history filtered by trainee")
+    void shouldProjectTrainerHistory() {
+        TrainingCursor first = TrainingCursor.before(PERIOD_FROM);
+        assertEquals(5, trainingRepository.findTrainerTrainingHistory("Peter.Peterson", PERIOD_FROM, PERIOD_TO,
+                "Trainee.One", first.trainingDate(), first.id(), Limit.unlimited()).size());
+        assertEquals(0, trainingRepository.findTrainerTrainingHistory("Peter.Peterson", PERIOD_FROM, PERIOD_TO,
+                "Joe.Johnson", first.trainingDate(), first.id(), Limit.unlimited()).size());
+    }
+
+    @Test
+    @DisplayName("Should walk trainee history page by page across equal training dates")
+    void shouldWalkTraineeHistoryByKeyset() {
+        List<TrainingHistoryDTO> all = traineeHistory(null, null);
+        List<TrainingHistoryDTO> walked = new ArrayList<>();
+        TrainingCursor cursor = TrainingCursor.before(PERIOD_FROM);
+        List<TrainingHistoryDTO> page;
+        do {
+            page = trainingRepository.findTraineeTrainingHistory("Trainee.One", PERIOD_FROM, PERIOD_TO, null, null,
+                    cursor.trainingDate(), cursor.id(), Limit.of(3));
+            walked.addAll(page);
+            if (!page.isEmpty()) {
+                TrainingHistoryDTO last = page.get(page.size() - 1);
+                cursor = TrainingCursor.decode(new TrainingCursor(last.getTrainingDate(), last.getId()).encode());
+            }
+        } while (page.size() == 3);
+
+        assertEquals(all.stream().map(TrainingHistoryDTO::getId).toList(),
+                walked.stream().map(TrainingHistoryDTO::getId).toList());
+    }
+
+    @Test
+    @DisplayName("Should stream export rows for a trainer and period in date order")
+    void shouldStreamTrainingExport() {
+        try (Stream<TrainingExportDTO> export = trainingRepository.streamTrainingExport("Joe.Johnson",
+                new Date(2_000_000L), null)) {
+            List<TrainingExportDTO> rows = export.toList();
+
+            assertEquals(4, rows.size());
+            assertTrue(rows.stream().allMatch(row -> "Trainee.One".equals(row.getTraineeUsername())));
+            assertEquals(new Date(2_000_000L).getTime(), rows.get(0).getTrainingDate().getTime());
+        }
+        try (Stream<TrainingExportDTO> export = trainingRepository.streamTrainingExport(null, null, null)) {
+            assertEquals(10, export.count());
+        }
+    }
+
+    @Test
+    @DisplayName("Should read a page of trainings and convert it without further statements")
+    void shouldReadTrainingPageWithoutFurtherStatements() {
+        List<Training> trainings = trainingRepository.findAll(PageRequest.of(0, 4)).getContent();
+
+        assertEquals(4, TrainingConverter.convertToDtoList(trainings).size());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Should insert trainings in JDBC batches with pooled sequence ids")
+    void shouldInsertTrainingsInBatches() {
+        Training template = trainingRepository.findAll().get(0);
+        List<Training> trainings = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            trainings.add(TrainingDummyDataFactory.getTraining(template.getTrainee(), template.getTrainer(),
+                    template.getTrainingType(), new Date(i)));
+        }
+        statistics.clear();
+
+        trainingRepository.saveAll(trainings);
+        entityManager.flush();
+
+        assertTrue(statistics.getPrepareStatementCount() < 10);
+        assertEquals(100, trainings.stream().map(Training::getId).distinct().count());
+    }
+
+    private List<TrainingHistoryDTO> traineeHistory(String trainerName, TrainingTypeName trainingTypeName) {
+        TrainingCursor first = TrainingCursor.before(PERIOD_FROM);
+        return trainingRepository.findTraineeTrainingHistory("Trainee.One", PERIOD_FROM, PERIOD_TO, trainerName,
+                trainingTypeName, first.trainingDate(), first.id(), Limit.unlimited());
+    }
+}
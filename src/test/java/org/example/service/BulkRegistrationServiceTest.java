@@ -0,0 +1,124 @@
+package org.example.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import org.example.dto.registration.BulkRegistrationDTO;
+import org.example.dto.registration.RegistrationRequestDTO;
+import org.example.dto.registration.RegistrationResultDTO;
+import org.example.exception.validation.InvalidBulkRequestException;
+import org.example.model.User;
+import org.example.utils.credentials.CredentialsGenerator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+class BulkRegistrationServiceTest {
+
+    private static final int CHUNK_SIZE = 2;
+    private static final int MAX_ROWS = 10;
+    private static final String PASSWORD = "0123456789";
+
+    private final CredentialsGenerator credentialsGenerator = mock(CredentialsGenerator.class);
+
+    private final List<List<User>> savedChunks = new ArrayList<>();
+
+    private ExecutorService executor;
+
+    private BulkRegistrationService bulkRegistrationService;
+
+    @BeforeEach
+    void setUp() {
+        PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+        when(passwordEncoder.encode(PASSWORD)).thenReturn("encoded");
+        when(credentialsGenerator.generateRandomPassword()).thenReturn(PASSWORD);
+        when(credentialsGenerator.generateUsernames(anyList())).thenAnswer(invocation -> {
+            List<User> users = invocation.getArgument(0);
+            return users.stream().map(user -> user.getFirstName() + "." + user.getLastName()).toList();
+        });
+        executor = Executors.newFixedThreadPool(2);
+        bulkRegistrationService = new BulkRegistrationService(credentialsGenerator,
+                new PasswordHashingService(passwordEncoder, executor, 1000, 1), CHUNK_SIZE, MAX_ROWS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should create valid rows in chunks and report rejected rows in submission order")
+    void shouldCreateValidRowsInChunks() {
+        List<RegistrationRequestDTO> requests = List.of(request("John", "Doe"), request(" ", "Doe"),
+                request("Jane", "Doe"), request("Joe", "Johnson"), request("Reject", "Me"), request("Ann", "Lee"));
+
+        BulkRegistrationDTO result = register(requests);
+
+        assertEquals(4, result.getCreated());
+        assertEquals(2, result.getFailed());
+        assertEquals(List.of(1, 2, 3, 4, 5, 6), result.getResults().stream().map(RegistrationResultDTO::getRow).toList());
+        assertEquals("John.Doe", result.getResults().get(0).getUsername());
+        assertEquals(PASSWORD, result.getResults().get(0).getPassword());
+        assertNull(result.getResults().get(1).getUsername());
+        assertEquals("Rejected", result.getResults().get(4).getError());
+        assertEquals(List.of(2, 2), savedChunks.stream().map(List::size).toList());
+        assertEquals("encoded", savedChunks.get(0).get(0).getPassword());
+        verify(credentialsGenerator).generateUsernames(anyList());
+    }
+
+    @Test
+    @DisplayName("Should fail only the rows of a chunk that could not be saved")
+    void shouldFailOnlyRowsOfFailedChunk() {
+        List<RegistrationRequestDTO> requests = IntStream.range(0, 5).mapToObj(i -> request("User", "No" + i)).toList();
+
+        BulkRegistrationDTO result = bulkRegistrationService.register(requests, request -> null, (request, user) -> user,
+                chunk -> {
+                    if (chunk.get(0).getLastName().equals("No2")) {
+                        throw new DataIntegrityViolationException("duplicate");
+                    }
+                });
+
+        assertEquals(3, result.getCreated());
+        assertEquals(List.of(true, true, false, false, true),
+                result.getResults().stream().map(RegistrationResultDTO::isCreated).toList());
+    }
+
+    @Test
+    @DisplayName("Should throw InvalidBulkRequestException when too many rows are submitted")
+    void shouldThrowInvalidBulkRequestExceptionWhenTooManyRows() {
+        List<RegistrationRequestDTO> requests = IntStream.range(0, MAX_ROWS + 1)
+                .mapToObj(i -> request("User", "No" + i))
+                .toList();
+
+        assertThrows(InvalidBulkRequestException.class, () -> register(requests));
+        assertThrows(InvalidBulkRequestException.class, () -> register(List.of()));
+    }
+
+    private BulkRegistrationDTO register(List<RegistrationRequestDTO> requests) {
+        return bulkRegistrationService.register(requests,
+                request -> "Reject".equals(request.getFirstName()) ? "Rejected" : null,
+                (request, user) -> user,
+                savedChunks::add);
+    }
+
+    private RegistrationRequestDTO request(String firstName, String lastName) {
+        return RegistrationRequestDTO.builder()
+                .firstName(firstName)
+                .lastName(lastName)
+                .build();
+    }
+}
@@ -3,6 +3,17 @@ package org.example.service;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.example.config.security.ClientAddressResolver;
+import org.example.utils.ratelimit.InMemoryLoginAttemptStore;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -16,20 +27,51 @@ import jakarta.servlet.http.HttpServletRequest;
 
 
 @ExtendWith(SpringExtension.class)
-@ContextConfiguration(classes = {LoginAttemptService.class})
+@ContextConfiguration(classes = {LoginAttemptService.class, LoginAbuseTracker.class, InMemoryLoginAttemptStore.class,
+        ClientAddressResolver.class})
 class LoginAttemptServiceTest {
 
+    private static final int MAX_ATTEMPT = 3;
+    private static final int MAX_USERNAME_ATTEMPT = 5;
+    private static final int MAX_DISTINCT_USERNAMES = 20;
+    private static final int MAX_TRACKED_KEYS = 1000;
+    private static final long WINDOW_MILLIS = TimeUnit.MINUTES.toMillis(5);
+    private static final int SKETCH_WIDTH = 1024;
+    private static final String USERNAME = "John.Doe";
+
     @MockBean
     private HttpServletRequest request;
 
     @Autowired
     private LoginAttemptService loginAttemptService;
 
+    private MockHttpServletRequest mockRequest;
+
+    private final AtomicLong clock = new AtomicLong(System.currentTimeMillis());
+
     @BeforeEach
     public void setUp() {
-        MockHttpServletRequest request = new MockHttpServletRequest();
-        request.setRemoteAddr("127.0.0.1");
-        loginAttemptService = new LoginAttemptService(request);
+        mockRequest = new MockHttpServletRequest();
+        mockRequest.setRemoteAddr("127.0.0.1");
+        loginAttemptService = newLoginAttemptService(MAX_ATTEMPT, MAX_USERNAME_ATTEMPT, MAX_TRACKED_KEYS);
+    }
+
+    private LoginAttemptService newLoginAttemptService(int maxAttempts, int maxUsernameAttempts, int maxTrackedKeys) {
+        return newLoginAttemptService(maxAttempts, maxUsernameAttempts, maxTrackedKeys, SKETCH_WIDTH);
+    }
+
+    private LoginAttemptService newLoginAttemptService(int maxAttempts, int maxUsernameAttempts, int maxTrackedKeys,
+                                                       int sketchWidth) {
+        LoginAbuseTracker tracker = new LoginAbuseTracker(4, sketchWidth, 10, 8, WINDOW_MILLIS, clock::get);
+        InMemoryLoginAttemptStore store = new InMemoryLoginAttemptStore(maxTrackedKeys,
+                TimeUnit.MILLISECONDS.toSeconds(WINDOW_MILLIS));
+        return new LoginAttemptService(mockRequest, new ClientAddressResolver(new String[0]), store, tracker,
+                maxAttempts, maxUsernameAttempts, MAX_DISTINCT_USERNAMES, WINDOW_MILLIS, clock::get);
+    }
+
+    private void useClientAddress(String clientAddress) {
+        mockRequest.setRemoteAddr(clientAddress);
+        mockRequest.removeAttribute(ClientAddressResolver.CLIENT_ADDRESS_ATTRIBUTE);
     }
 
     @Test
@@ -52,13 +94,127 @@ class LoginAttemptServiceTest {
     }
 
     @Test
-    public void shouldNotBeBlockedAfterBanDurationTimePassWhenLoginFailed() throws InterruptedException {
-        for (int i = 1; i < 3; i++) {
+    public void shouldNotBeBlockedAfterBanDurationTimePassWhenLoginFailed() {
+        for (int i = 1; i <= 3; i++) {
             loginAttemptService.loginFailed();
         }
+        assertTrue(loginAttemptService.isBlocked());
 
-        Thread.sleep((5 + 1) * 60 * 1000);
+        clock.addAndGet(WINDOW_MILLIS + TimeUnit.MINUTES.toMillis(1));
 
         assertFalse(loginAttemptService.isBlocked());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldBlockUsernameAcrossClientAddressesWhenLoginFailed() {
+        for (int i = 0; i < MAX_USERNAME_ATTEMPT; i++) {
+            useClientAddress("10.0.0." + i);
+            loginAttemptService.loginFailed(USERNAME);
+        }
+
+        useClientAddress("10.0.1.1");
+        assertFalse(loginAttemptService.isBlocked());
+        assertTrue(loginAttemptService.isBlocked(USERNAME));
+    }
+
+    @Test
+    public void shouldBlockClientSprayingDistinctUsernamesWhenLoginFailed() {
+        LoginAttemptService service = newLoginAttemptService(Integer.MAX_VALUE, MAX_USERNAME_ATTEMPT, MAX_TRACKED_KEYS);
+        for (int i = 0; i < MAX_DISTINCT_USERNAMES * 2; i++) {
+            service.loginFailed("user." + i);
+        }
+
+        assertTrue(service.isBlocked());
+    }
+
+    @Test
+    public void shouldFallBackToSketchWhenTrackedKeysAreExhausted() {
+        LoginAttemptService service = newLoginAttemptService(MAX_ATTEMPT, MAX_USERNAME_ATTEMPT, 1);
+        useClientAddress("10.0.0.1");
+        service.loginFailed();
+
+        useClientAddress("10.0.0.2");
+        for (int i = 0; i < MAX_ATTEMPT - 1; i++) {
+            service.loginFailed();
+        }
+        assertFalse(service.isBlocked());
+
+        service.loginFailed();
+        assertTrue(service.isBlocked());
+    }
+
+    @Test
+    public void shouldNotJudgeCleanClientsBySketchWhileTrackedKeysRemain() {
+        LoginAttemptService service = newLoginAttemptService(MAX_ATTEMPT, MAX_USERNAME_ATTEMPT, MAX_TRACKED_KEYS, 16);
+        spray(service, 400);
+
+        for (int i = 0; i < 100; i++) {
+            useClientAddress("192.168.0." + i);
+            assertFalse(service.isBlocked(USERNAME));
+        }
+    }
+
+    @Test
+    public void shouldNotBlockCleanClientsAfterSprayExhaustsTrackedKeys() {
+        LoginAttemptService service = newLoginAttemptService(MAX_ATTEMPT, MAX_USERNAME_ATTEMPT, MAX_TRACKED_KEYS,
+                65536);
+        spray(service, 20_000);
+
+        for (int i = 0; i < 1000; i++) {
+            useClientAddress("192.168." + i / 256 + "." + i % 256);
+            assertFalse(service.isBlocked(USERNAME));
+        }
+    }
+
+    @Test
+    public void shouldCountUnknownKeysAsCleanOnceTheStoreHasHadRoomForAWindow() {
+        LoginAttemptService service = newLoginAttemptService(MAX_ATTEMPT, MAX_USERNAME_ATTEMPT, 1, 16);
+        spray(service, 400);
+        useClientAddress("192.168.0.1");
+        assertTrue(service.isBlocked());
+
+        clock.addAndGet(WINDOW_MILLIS);
+
+        assertFalse(service.isBlocked());
+    }
+
+    private void spray(LoginAttemptService service, int attempts) {
+        for (int i = 0; i < attempts; i++) {
+            useClientAddress("10." + i / 65536 + "." + i / 256 % 256 + "." + i % 256);
+            service.loginFailed("user." + i);
+        }
+    }
+
+    @Test
+    public void shouldCountEveryAttemptWhenLoginFailedConcurrently() throws Exception {
+        int threads = 8;
+        int attemptsPerThread = 2_000;
+        int totalAttempts = threads * attemptsPerThread;
+        LoginAttemptService service = newLoginAttemptService(totalAttempts, totalAttempts, MAX_TRACKED_KEYS);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int attempts = t == 0 ? attemptsPerThread - 1 : attemptsPerThread;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < attempts; i++) {
+                    service.loginFailed(USERNAME);
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertFalse(service.isBlocked());
+        assertFalse(service.isBlocked(USERNAME));
+        service.loginFailed(USERNAME);
+        assertTrue(service.isBlocked());
+        assertTrue(service.isBlocked(USERNAME));
+    }
+}
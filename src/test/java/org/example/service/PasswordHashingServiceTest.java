@@ -0,0 +1,101 @@
+package org.example.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.example.exception.credentials.PasswordHashingUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+class PasswordHashingServiceTest {
+
+    private static final String PASSWORD = "0123456789";
+    private static final String ENCODED_PASSWORD = "encodedPassword";
+    private static final String BLOCKING_PASSWORD = "blockingPassword";
+    private static final long TIMEOUT_MILLIS = 1000;
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private PasswordEncoder passwordEncoder;
+
+    private ThreadPoolExecutor executor;
+
+    private PasswordHashingService passwordHashingService;
+
+    @BeforeEach
+    void setUp() {
+        passwordEncoder = mock(PasswordEncoder.class);
+        when(passwordEncoder.encode(PASSWORD)).thenReturn(ENCODED_PASSWORD);
+        when(passwordEncoder.encode(BLOCKING_PASSWORD)).thenAnswer(invocation -> {
+            release.await();
+            return ENCODED_PASSWORD;
+        });
+        executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(1));
+        passwordHashingService = new PasswordHashingService(passwordEncoder, executor, TIMEOUT_MILLIS, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should return encoded password when encode")
+    void shouldReturnEncodedPasswordWhenEncode() {
+        assertEquals(ENCODED_PASSWORD, passwordHashingService.encode(PASSWORD));
+    }
+
+    @Test
+    @DisplayName("Should throw PasswordHashingUnavailableException when queue is full")
+    void shouldThrowPasswordHashingUnavailableExceptionWhenQueueIsFull() {
+        passwordHashingService.encodeAsync(BLOCKING_PASSWORD);
+        passwordHashingService.encodeAsync(BLOCKING_PASSWORD);
+
+        assertThrows(PasswordHashingUnavailableException.class, () -> passwordHashingService.encode(PASSWORD));
+    }
+
+    @Test
+    @DisplayName("Should skip a queued hash once its caller timed out")
+    void shouldSkipQueuedHashAfterTimeout() throws Exception {
+        PasswordHashingService impatientService = new PasswordHashingService(passwordEncoder, executor, 50, 1);
+        passwordHashingService.encodeAsync(BLOCKING_PASSWORD);
+
+        assertThrows(PasswordHashingUnavailableException.class, () -> impatientService.encode(PASSWORD));
+        release.countDown();
+        executor.shutdown();
+
+        assertTrue(executor.awaitTermination(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+        verify(passwordEncoder, never()).encode(PASSWORD);
+    }
+
+    @Test
+    @DisplayName("Should make bulk hashing wait for its share and keep queue room for single registrations")
+    void shouldKeepQueueRoomWhileBulkHashingWaits() throws Exception {
+        CompletableFuture<String> bulk = passwordHashingService.encodeBulkAsync(BLOCKING_PASSWORD);
+
+        assertThrows(PasswordHashingUnavailableException.class,
+                () -> passwordHashingService.encodeBulkAsync(PASSWORD));
+        CompletableFuture<String> single = passwordHashingService.encodeAsync(PASSWORD);
+        release.countDown();
+
+        assertEquals(ENCODED_PASSWORD, bulk.get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+        assertEquals(ENCODED_PASSWORD, single.get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+        assertEquals(ENCODED_PASSWORD,
+                passwordHashingService.encodeBulkAsync(PASSWORD).get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+    }
+}
@@ -0,0 +1,128 @@
+package org.example.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+
+import org.example.config.security.JwtKeyManager;
+import org.example.config.security.RevocationCheckingJwtDecoder;
+import org.example.config.security.TokenRevocationList;
+import org.example.dto.security.TokenDTO;
+import org.example.exception.security.InvalidTokenException;
+import org.example.repository.RevokedTokenRepository;
+import org.example.repository.UserRepository;
+import org.example.utils.dummydata.UserDummyDataFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+@ExtendWith(SpringExtension.class)
+@ContextConfiguration(classes = {TokenService.class, TokenRevocationList.class, TokenServiceTest.JwtConfig.class})
+class TokenServiceTest {
+
+    private static final String USERNAME = "John.Doe";
+    private static final String KEY = "0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef";
+
+    @MockBean
+    private UserRepository userRepository;
+
+    @MockBean
+    private RevokedTokenRepository revokedTokenRepository;
+
+    @Autowired
+    private TokenService tokenService;
+
+    @Autowired
+    private RevocationCheckingJwtDecoder jwtDecoder;
+
+    private TokenDTO tokens;
+
+    @BeforeEach
+    void setUp() {
+        when(userRepository.findByUsername(anyString()))
+                .thenReturn(Optional.of(UserDummyDataFactory.getUserJohnDoe()));
+        when(revokedTokenRepository.insertIfAbsent(anyString(), any(), any())).thenReturn(1);
+        tokens = tokenService.generateTokens(new UsernamePasswordAuthenticationToken(USERNAME, null,
+                AuthorityUtils.createAuthorityList("read")));
+    }
+
+    @Test
+    @DisplayName("Should issue short-lived access token that decodes as bearer")
+    void shouldIssueAccessTokenThatDecodesAsBearer() {
+        Jwt jwt = jwtDecoder.decode(tokens.getAccessToken());
+
+        assertEquals(USERNAME, jwt.getSubject());
+        assertEquals("read", jwt.getClaimAsString("scope"));
+        assertEquals(900, jwt.getExpiresAt().getEpochSecond() - jwt.getIssuedAt().getEpochSecond());
+    }
+
+    @Test
+    @DisplayName("Should reject refresh token used as bearer token")
+    void shouldRejectRefreshTokenAsBearer() {
+        assertThrows(BadJwtException.class, () -> jwtDecoder.decode(tokens.getRefreshToken()));
+    }
+
+    @Test
+    @DisplayName("Should rotate refresh token so it can only be used once")
+    void shouldRotateRefreshToken() {
+        TokenDTO refreshed = tokenService.refresh(tokens.getRefreshToken());
+
+        assertNotEquals(tokens.getRefreshToken(), refreshed.getRefreshToken());
+        assertEquals(USERNAME, jwtDecoder.decode(refreshed.getAccessToken()).getSubject());
+        assertThrows(InvalidTokenException.class, () -> tokenService.refresh(tokens.getRefreshToken()));
+    }
+
+    @Test
+    @DisplayName("Should reject refresh token already redeemed on another node")
+    void shouldRejectRefreshTokenRedeemedConcurrently() {
+        when(revokedTokenRepository.insertIfAbsent(anyString(), any(), any())).thenReturn(0);
+
+        assertThrows(InvalidTokenException.class, () -> tokenService.refresh(tokens.getRefreshToken()));
+    }
+
+    @Test
+    @DisplayName("Should reject revoked access token without reading the database")
+    void shouldRejectRevokedAccessToken() {
+        Jwt jwt = jwtDecoder.decode(tokens.getAccessToken());
+
+        tokenService.revoke(jwt, null, USERNAME);
+
+        assertThrows(BadJwtException.class, () -> jwtDecoder.decode(tokens.getAccessToken()));
+    }
+
+    @TestConfiguration
+    static class JwtConfig {
+
+        @Bean
+        JwtKeyManager jwtKeyManager() {
+            return new JwtKeyManager(KEY, "HS512", "", false, 604800);
+        }
+
+        @Bean
+        JwtEncoder jwtEncoder(JwtKeyManager jwtKeyManager) {
+            return jwtKeyManager.jwtEncoder();
+        }
+
+        @Bean
+        RevocationCheckingJwtDecoder jwtDecoder(JwtKeyManager jwtKeyManager, TokenRevocationList tokenRevocationList) {
+            return new RevocationCheckingJwtDecoder(jwtKeyManager.jwtDecoder(), tokenRevocationList);
+        }
+    }
+}
@@ -15,6 +15,7 @@ import java.util.Optional;
 
 import org.example.dto.credentials.CredentialsUpdateDTO;
 import org.example.dto.trainee.TraineeUpdateDTO;
+import org.example.event.UserAccountChangedEvent;
 import org.example.exception.credentials.IdenticalPasswordException;
 import org.example.exception.credentials.IncorrectPasswordException;
 import org.example.exception.notfound.TraineeNotFoundException;
@@ -28,12 +29,18 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 @ExtendWith(SpringExtension.class)
 @ContextConfiguration(classes = {TraineeService.class})
+@RecordApplicationEvents
 class TraineeServiceTest {
 
     private static final String USERNAME = "John.Doe";
@@ -50,11 +57,17 @@ class TraineeServiceTest {
     private CredentialsGenerator credentialsGenerator;
 
     @MockBean
-    private PasswordEncoder passwordEncoder;
+    private PasswordHashingService passwordHashingService;
+
+    @MockBean
+    private BulkRegistrationService bulkRegistrationService;
 
     @Autowired
     private TraineeService traineeService;
 
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
     private Trainee traineeUnderTest;
 
     @BeforeEach
@@ -84,22 +97,22 @@ class TraineeServiceTest {
     @Test
     @DisplayName("Should return Trainee when getTraineeByUsername")
     void shouldReturnTraineeWhenGetTraineeByUsername() {
-        when(traineeRepository.findByUserUsername(anyString())).thenReturn(Optional.of(traineeUnderTest));
+        when(traineeRepository.findWithTrainersByUserUsername(anyString())).thenReturn(Optional.of(traineeUnderTest));
 
         Trainee result = traineeService.getTraineeByUsername(USERNAME);
 
-        verify(traineeRepository).findByUserUsername(USERNAME);
+        verify(traineeRepository).findWithTrainersByUserUsername(USERNAME);
         assertEquals(traineeUnderTest, result);
     }
 
     @Test
     @DisplayName("Should throw TraineeNotFoundException for invalid username when getTraineeByUsername")
     void shouldThrowTraineeNotFoundExceptionForInvalidUsernameWhenGetTraineeByUsername() {
-        when(traineeRepository.findByUserUsername(anyString())).thenReturn(Optional.empty());
+        when(traineeRepository.findWithTrainersByUserUsername(anyString())).thenReturn(Optional.empty());
 
         assertThrows(TraineeNotFoundException.class, () -> traineeService.getTraineeByUsername(BAD_USERNAME));
 
-        verify(traineeRepository).findByUserUsername(BAD_USERNAME);
+        verify(traineeRepository).findWithTrainersByUserUsername(BAD_USERNAME);
     }
 
     @Test
@@ -108,13 +121,14 @@ class TraineeServiceTest {
         CredentialsUpdateDTO credentialsUpdateDTO =
                 createCredentialsUpdateDTO(PASSWORD, NEW_PASSWORD);
 
-        when(traineeRepository.findByUserUsername(any())).thenReturn(Optional.ofNullable(traineeUnderTest));
+        when(traineeRepository.findWithTrainersByUserUsername(any())).thenReturn(Optional.ofNullable(traineeUnderTest));
         when(traineeRepository.save(any())).thenReturn(traineeUnderTest);
 
         Trainee result = traineeService.changePassword(credentialsUpdateDTO);
 
         verify(traineeRepository).save(traineeUnderTest);
         assertEquals(credentialsUpdateDTO.getNewPassword(), result.getPassword());
+        assertEquals(1, applicationEvents.stream(UserAccountChangedEvent.class).count());
     }
 
     @Test
@@ -123,7 +137,7 @@ class TraineeServiceTest {
         CredentialsUpdateDTO credentialsUpdateDTO =
                 createCredentialsUpdateDTO(WRONG_OLD_PASSWORD, NEW_PASSWORD);
 
-        when(traineeRepository.findByUserUsername(any())).thenReturn(Optional.ofNullable(traineeUnderTest));
+        when(traineeRepository.findWithTrainersByUserUsername(any())).thenReturn(Optional.ofNullable(traineeUnderTest));
 
         assertThrows(IncorrectPasswordException.class, () -> traineeService.changePassword(credentialsUpdateDTO));
 
@@ -136,7 +150,7 @@ class TraineeServiceTest {
         CredentialsUpdateDTO credentialsUpdateDTO =
                 createCredentialsUpdateDTO(PASSWORD, PASSWORD);
 
-        when(traineeRepository.findByUserUsername(any())).thenReturn(Optional.ofNullable(traineeUnderTest));
+        when(traineeRepository.findWithTrainersByUserUsername(any())).thenReturn(Optional.ofNullable(traineeUnderTest));
 
         assertThrows(IdenticalPasswordException.class, () -> traineeService.changePassword(credentialsUpdateDTO));
 
@@ -146,7 +160,7 @@ class TraineeServiceTest {
     @Test
     @DisplayName("Should return Trainee when updateTrainee")
     void shouldReturnTraineeWhenUpdateTrainee() {
-        when(traineeRepository.findByUserUsername(anyString())).thenReturn(Optional.of(traineeUnderTest));
+        when(traineeRepository.findWithTrainersByUserUsername(anyString())).thenReturn(Optional.of(traineeUnderTest));
         when(traineeRepository.save(traineeUnderTest)).thenReturn(traineeUnderTest);
 
         TraineeUpdateDTO traineeUpdateDTO = createTraineeUpdateDTO();
@@ -166,6 +180,7 @@ class TraineeServiceTest {
 
         verify(traineeRepository).save(traineeUnderTest);
         assertTrue(result);
+        assertEquals(1, applicationEvents.stream(UserAccountChangedEvent.class).count());
     }
 
     @Test
@@ -192,14 +207,15 @@ class TraineeServiceTest {
     }
 
     @Test
-    @DisplayName("Should return list of Trainees when getAllTrainees")
+    @DisplayName("Should return page of Trainees when getAllTrainees")
     void shouldReturnTraineeListWhenGetAllTrainees() {
-        List<Trainee> expectedTrainees = Collections.singletonList(new Trainee());
-        when(traineeRepository.findAll()).thenReturn(expectedTrainees);
+        Pageable pageable = PageRequest.of(0, 20);
+        Page<Trainee> expectedTrainees = new PageImpl<>(Collections.singletonList(new Trainee()), pageable, 1);
+        when(traineeRepository.findAll(pageable)).thenReturn(expectedTrainees);
 
-        List<Trainee> result = traineeService.getAllTrainees();
+        Page<Trainee> result = traineeService.getAllTrainees(pageable);
 
-        verify(traineeRepository).findAll();
+        verify(traineeRepository).findAll(pageable);
         assertEquals(expectedTrainees, result);
     }
 
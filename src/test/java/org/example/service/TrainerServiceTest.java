@@ -4,22 +4,31 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 import org.example.dto.credentials.CredentialsUpdateDTO;
+import org.example.dto.registration.BulkRegistrationDTO;
+import org.example.dto.registration.RegistrationRequestDTO;
+import org.example.dto.trainer.TrainerListDTO;
 import org.example.dto.trainer.TrainerUpdateDTO;
 import org.example.enums.TrainingTypeName;
+import org.example.event.UserAccountChangedEvent;
 import org.example.exception.credentials.IdenticalPasswordException;
 import org.example.exception.credentials.IncorrectPasswordException;
 import org.example.exception.notfound.TrainerNotFoundException;
 import org.example.exception.notfound.TrainingTypeNotFoundException;
+import org.example.model.Trainee;
 import org.example.model.Trainer;
 import org.example.model.TrainingType;
 import org.example.repository.TraineeRepository;
@@ -27,18 +36,26 @@ import org.example.repository.TrainerRepository;
 import org.example.repository.TrainingTypeRepository;
 import org.example.utils.credentials.CredentialsGenerator;
 import org.example.utils.dummydata.TrainerDummyDataFactory;
+import org.example.utils.dummydata.UserDummyDataFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 @ExtendWith(SpringExtension.class)
-@ContextConfiguration(classes = {TrainerService.class})
+@ContextConfiguration(classes = {TrainerService.class, BulkRegistrationService.class})
+@RecordApplicationEvents
 class TrainerServiceTest {
 
     public static final String USERNAME = "Joe.Johnson";
@@ -58,7 +75,7 @@ class TrainerServiceTest {
     private TrainingTypeRepository trainingTypeRepository;
 
     @MockBean
-    private PasswordEncoder passwordEncoder;
+    private PasswordHashingService passwordHashingService;
 
     @MockBean
     private CredentialsGenerator credentialsGenerator;
@@ -66,6 +83,9 @@ class TrainerServiceTest {
     @Autowired
     private TrainerService trainerService;
 
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
     private Trainer trainerUnderTest;
 
     @BeforeEach
@@ -90,30 +110,63 @@ class TrainerServiceTest {
                 trainerUnderTest.getUser().getLastName(), trainerUnderTest.getSpecialization().getTrainingTypeName());
 
         verify(trainerRepository).save(any());
+        verify(passwordHashingService).encode(PASSWORD);
         assertEquals(USERNAME, result.getUsername());
         assertEquals(PASSWORD, result.getPassword());
     }
 
+    @Test
+    @DisplayName("Should reject rows with unknown specialization when createTrainers")
+    @SuppressWarnings("unchecked")
+    void shouldRejectUnknownSpecializationWhenCreateTrainers() {
+        TrainingType aerobic = TrainingType.builder()
+                .id(1L)
+                .trainingTypeName(TrainingTypeName.AEROBIC)
+                .build();
+        List<RegistrationRequestDTO> requests = List.of(
+                RegistrationRequestDTO.builder().firstName("Joe").lastName("Johnson")
+                        .specialization(TrainingTypeName.AEROBIC).build(),
+                RegistrationRequestDTO.builder().firstName("Peter").lastName("Peterson")
+                        .specialization(TrainingTypeName.STRENGTH).build(),
+                RegistrationRequestDTO.builder().firstName("No").lastName("Specialization").build());
+
+        when(trainingTypeRepository.findAll()).thenReturn(List.of(aerobic));
+        when(credentialsGenerator.generateUsernames(anyList())).thenReturn(List.of(USERNAME));
+        when(credentialsGenerator.generateRandomPassword()).thenReturn(PASSWORD);
+        when(passwordHashingService.encodeBulkAsync(PASSWORD)).thenReturn(CompletableFuture.completedFuture("encoded"));
+
+        BulkRegistrationDTO result = trainerService.createTrainers(requests);
+
+        ArgumentCaptor<List<Trainer>> saved = ArgumentCaptor.forClass(List.class);
+        verify(trainerRepository).saveAll(saved.capture());
+        assertEquals(1, result.getCreated());
+        assertEquals(2, result.getFailed());
+        assertEquals(USERNAME, result.getResults().get(0).getUsername());
+        assertEquals("Training type not found", result.getResults().get(1).getError());
+        assertEquals(aerobic, saved.getValue().get(0).getSpecialization());
+        assertEquals("encoded", saved.getValue().get(0).getPassword());
+    }
+
     @Test
     @DisplayName("Should return Trainee when getTraineeByUsername")
     void shouldReturnTrainerWhenGetTrainerByUsername() {
-        when(trainerRepository.findByUserUsername(anyString())).thenReturn(Optional.of(trainerUnderTest));
+        when(trainerRepository.findWithTraineesByUserUsername(anyString())).thenReturn(Optional.of(trainerUnderTest));
 
         Trainer result = trainerService.getTrainerByUsername(USERNAME);
 
-        verify(trainerRepository).findByUserUsername(anyString());
+        verify(trainerRepository).findWithTraineesByUserUsername(anyString());
         assertEquals(trainerUnderTest, result);
     }
 
     @Test
     @DisplayName("Should throw TrainerNotFoundException for invalid username when getTrainerByUsername")
     void shouldThrowTrainerNotFoundExceptionForInvalidUsernameWhenGetTrainerByUsername() {
-        when(trainerRepository.findByUserUsername(anyString())).thenReturn(Optional.empty());
+        when(trainerRepository.findWithTraineesByUserUsername(anyString())).thenReturn(Optional.empty());
 
         assertThrows(TrainerNotFoundException.class,
                 () -> trainerService.getTrainerByUsername(USERNAME));
 
-        verify(trainerRepository).findByUserUsername(USERNAME);
+        verify(trainerRepository).findWithTraineesByUserUsername(USERNAME);
     }
 
     @Test
@@ -122,13 +175,14 @@ class TrainerServiceTest {
         CredentialsUpdateDTO credentialsUpdateDTO =
                 createCredentialsUpdateDTO(PASSWORD, NEW_PASSWORD);
 
-        when(trainerRepository.findByUserUsername(any())).thenReturn(Optional.ofNullable(trainerUnderTest));
+        when(trainerRepository.findWithTraineesByUserUsername(any())).thenReturn(Optional.ofNullable(trainerUnderTest));
         when(trainerRepository.save(trainerUnderTest)).thenReturn(trainerUnderTest);
 
         Trainer result = trainerService.changePassword(credentialsUpdateDTO);
 
         verify(trainerRepository).save(trainerUnderTest);
         assertEquals(credentialsUpdateDTO.getNewPassword(), result.getPassword());
+        assertEquals(1, applicationEvents.stream(UserAccountChangedEvent.class).count());
     }
 
     @Test
@@ -137,7 +191,7 @@ class TrainerServiceTest {
         CredentialsUpdateDTO credentialsUpdateDTO =
                 createCredentialsUpdateDTO(WRONG_OLD_PASSWORD, NEW_PASSWORD);
 
-        when(trainerRepository.findByUserUsername(any())).thenReturn(Optional.ofNullable(trainerUnderTest));
+        when(trainerRepository.findWithTraineesByUserUsername(any())).thenReturn(Optional.ofNullable(trainerUnderTest));
 
         assertThrows(IncorrectPasswordException.class, () -> trainerService.changePassword(credentialsUpdateDTO));
 
@@ -150,7 +204,7 @@ class TrainerServiceTest {
         CredentialsUpdateDTO credentialsUpdateDTO =
                 createCredentialsUpdateDTO(PASSWORD, PASSWORD);
 
-        when(trainerRepository.findByUserUsername(any())).thenReturn(Optional.ofNullable(trainerUnderTest));
+        when(trainerRepository.findWithTraineesByUserUsername(any())).thenReturn(Optional.ofNullable(trainerUnderTest));
 
         assertThrows(IdenticalPasswordException.class, () -> trainerService.changePassword(credentialsUpdateDTO));
 
@@ -165,7 +219,7 @@ class TrainerServiceTest {
                 .trainingTypeName(TrainingTypeName.AEROBIC)
                 .build();
 
-        when(trainerRepository.findByUserUsername(any())).thenReturn(Optional.of(trainerUnderTest));
+        when(trainerRepository.findWithTraineesByUserUsername(any())).thenReturn(Optional.of(trainerUnderTest));
         when(trainingTypeRepository.findByTrainingTypeName(any())).thenReturn(Optional.of(trainingType));
         when(trainerRepository.save(trainerUnderTest)).thenReturn(trainerUnderTest);
         TrainerUpdateDTO trainerUpdateDTO = createTrainerUpdateDTO();
@@ -180,7 +234,7 @@ class TrainerServiceTest {
     void shouldThrowTrainingTypeNotFoundExceptionForIncorrectTrainingTypeNameWhenUpdateTrainer() {
         TrainerUpdateDTO trainerUpdateDTO = createTrainerUpdateDTO();
 
-        when(trainerRepository.findByUserUsername(any())).thenReturn(Optional.of(trainerUnderTest));
+        when(trainerRepository.findWithTraineesByUserUsername(any())).thenReturn(Optional.of(trainerUnderTest));
         when(trainingTypeRepository.findByTrainingTypeName(any())).thenReturn(Optional.empty());
 
         assertThrows(TrainingTypeNotFoundException.class, () -> trainerService.updateTrainer(trainerUpdateDTO));
@@ -198,6 +252,7 @@ class TrainerServiceTest {
 
         verify(trainerRepository).save(trainerUnderTest);
         assertTrue(result);
+        assertEquals(1, applicationEvents.stream(UserAccountChangedEvent.class).count());
     }
 
     @Test
@@ -237,17 +292,39 @@ class TrainerServiceTest {
     }
 
     @Test
-    @DisplayName("Should return list of trainers when getAllTrainers")
+    @DisplayName("Should return page of trainers when getAllTrainers")
     void shouldReturnTrainerListWhenGetAllTrainers() {
-        List<Trainer> expectedTrainers = Collections.singletonList(new Trainer());
-        when(trainerRepository.findAll()).thenReturn(expectedTrainers);
+        Pageable pageable = PageRequest.of(0, 20);
+        Page<Trainer> expectedTrainers = new PageImpl<>(Collections.singletonList(new Trainer()), pageable, 1);
+        when(trainerRepository.findAll(pageable)).thenReturn(expectedTrainers);
 
-        List<Trainer> result = trainerService.getAllTrainers();
+        Page<Trainer> result = trainerService.getAllTrainers(pageable);
 
-        verify(trainerRepository).findAll();
+        verify(trainerRepository).findAll(pageable);
         assertEquals(expectedTrainers, result);
     }
 
+    @Test
+    @DisplayName("Should link only requested trainers not yet assigned when updateTraineeTrainerList")
+    void shouldLinkOnlyMissingTrainersWhenUpdateTraineeTrainerList() {
+        Trainer assigned = Trainer.builder().id(1L).user(UserDummyDataFactory.getUserJoeJohnson()).build();
+        Trainer missing = Trainer.builder().id(2L).user(UserDummyDataFactory.getUserPeterPeterson()).build();
+        Trainee trainee = Trainee.builder().id(10L).user(UserDummyDataFactory.getUserJohnDoe())
+                .trainerList(new ArrayList<>(List.of(assigned))).build();
+        List<String> requestedUsernames = List.of(assigned.getUsername(), missing.getUsername(),
+                missing.getUsername());
+        when(traineeRepository.findWithTrainersByUserUsername(trainee.getUsername())).thenReturn(Optional.of(trainee));
+        when(trainerRepository.findByUserUsernameIn(Set.copyOf(requestedUsernames)))
+                .thenReturn(List.of(assigned, missing));
+
+        List<Trainer> result = trainerService.updateTraineeTrainerList(trainee.getUsername(),
+                new TrainerListDTO(requestedUsernames));
+
+        verify(traineeRepository).addTrainerLinks(10L, List.of(2L));
+        verify(trainerRepository, never()).findAll();
+        assertEquals(List.of(assigned, missing), result);
+    }
+
     private CredentialsUpdateDTO createCredentialsUpdateDTO(String oldPassword,
                                                             String newPassword) {
         return CredentialsUpdateDTO.builder()
@@ -0,0 +1,122 @@
+package org.example.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.example.dto.training.TrainingCreateDTO;
+import org.example.dto.training.TrainingImportErrorDTO;
+import org.example.dto.training.TrainingImportProgressDTO;
+import org.example.enums.TrainingTypeName;
+import org.example.model.Trainee;
+import org.example.model.Trainer;
+import org.example.model.TrainingType;
+import org.example.repository.TraineeRepository;
+import org.example.repository.TraineeTrainerLink;
+import org.example.repository.TrainerRepository;
+import org.example.repository.TrainingRepository;
+import org.example.repository.TrainingTypeRepository;
+import org.example.utils.H2DataJpaTest;
+import org.example.utils.dummydata.TraineeDummyDataFactory;
+import org.example.utils.dummydata.TrainerDummyDataFactory;
+import org.example.utils.dummydata.TrainingTypeDummyDataFactory;
+import org.example.utils.dummydata.UserDummyDataFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@H2DataJpaTest(properties = "training.import.chunk-size=2")
+@Import(TrainingImportService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TrainingImportServiceTest {
+
+    private static final String TRAINEE_USERNAME = "John.Doe";
+    private static final String TRAINER_USERNAME = "Joe.Johnson";
+    private static final String OTHER_TRAINER_USERNAME = "Peter.Peterson";
+
+    @Autowired
+    private TrainingImportService trainingImportService;
+
+    @Autowired
+    private TrainingRepository trainingRepository;
+
+    @Autowired
+    private TraineeRepository traineeRepository;
+
+    @Autowired
+    private TrainerRepository trainerRepository;
+
+    @Autowired
+    private TrainingTypeRepository trainingTypeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Trainee trainee;
+
+    private Trainer trainer;
+
+    @BeforeEach
+    void setUp() {
+        TrainingType aerobic = trainingTypeRepository.save(TrainingTypeDummyDataFactory.getTrainingTypeAerobic());
+        trainingTypeRepository.save(TrainingTypeDummyDataFactory.getTrainingTypeStrength());
+        trainee = traineeRepository.save(TraineeDummyDataFactory.getTrainee(UserDummyDataFactory.getUserJohnDoe()));
+        trainer = trainerRepository.save(
+                TrainerDummyDataFactory.getTrainer(UserDummyDataFactory.getUserJoeJohnson(), aerobic));
+        trainerRepository.save(
+                TrainerDummyDataFactory.getTrainer(UserDummyDataFactory.getUserPeterPeterson(), aerobic));
+        traineeRepository.addLinks(List.of(new TraineeTrainerLink(trainee.getId(), trainer.getId())));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM training");
+        jdbcTemplate.update("DELETE FROM trainers_trainees");
+        jdbcTemplate.update("DELETE FROM trainee");
+        jdbcTemplate.update("DELETE FROM trainer");
+        jdbcTemplate.update("DELETE FROM training_type");
+        jdbcTemplate.update("DELETE FROM user");
+    }
+
+    @Test
+    @DisplayName("Should import valid rows chunk by chunk and report errors of each chunk")
+    void shouldImportValidRowsAndReportErrorsPerChunk() {
+        List<TrainingCreateDTO> rows = List.of(
+                row(TRAINEE_USERNAME, TRAINER_USERNAME, 30),
+                row("Unknown.Trainee", TRAINER_USERNAME, 30),
+                row(TRAINEE_USERNAME, OTHER_TRAINER_USERNAME, 45),
+                row(TRAINEE_USERNAME, OTHER_TRAINER_USERNAME, 0),
+                row(TRAINEE_USERNAME, OTHER_TRAINER_USERNAME, 60));
+        List<TrainingImportProgressDTO> progress = new ArrayList<>();
+
+        TrainingImportProgressDTO result = trainingImportService.importTrainings(rows, progress::add);
+
+        assertEquals(List.of(2, 4, 5), progress.stream().map(TrainingImportProgressDTO::getProcessed).toList());
+        assertEquals(List.of(2), progress.get(0).getErrors().stream().map(TrainingImportErrorDTO::getRow).toList());
+        assertEquals("Training duration must be positive", progress.get(1).getErrors().get(0).getError());
+        assertTrue(result.isDone());
+        assertEquals(3, result.getImported());
+        assertEquals(2, result.getFailed());
+        assertEquals(3, trainingRepository.count());
+        assertEquals(2, traineeRepository.findLinksByTraineeIds(List.of(trainee.getId())).size());
+    }
+
+    private TrainingCreateDTO row(String traineeUsername, String trainerUsername, int duration) {
+        return TrainingCreateDTO.builder()
+                .traineeUsername(traineeUsername)
+                .trainerUsername(trainerUsername)
+                .trainingTypeName(TrainingTypeName.AEROBIC)
+                .trainingDate(new Date())
+                .trainingDuration(duration)
+                .build();
+    }
+}
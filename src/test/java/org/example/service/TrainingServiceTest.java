@@ -1,10 +1,13 @@
 package org.example.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -14,16 +17,20 @@ import java.util.Date;
 import java.util.List;
 import java.util.Optional;
 
+import org.example.dto.page.CursorPageDTO;
 import org.example.dto.training.TrainingCreateDTO;
+import org.example.dto.training.TrainingHistoryDTO;
 import org.example.exception.notfound.TraineeNotFoundException;
 import org.example.exception.notfound.TrainerNotFoundException;
 import org.example.exception.notfound.TrainingTypeNotFoundException;
+import org.example.exception.validation.InvalidCursorException;
 import org.example.model.Training;
 import org.example.repository.TraineeRepository;
 import org.example.repository.TrainerRepository;
 import org.example.repository.TrainingRepository;
 import org.example.repository.TrainingTypeRepository;
 import org.example.utils.dummydata.TrainingDummyDataFactory;
+import org.example.utils.pagination.TrainingCursor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -31,6 +38,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
@@ -38,6 +50,8 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
 @ContextConfiguration(classes = {TrainingService.class})
 class TrainingServiceTest {
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+
     @MockBean
     private TrainingRepository trainingRepository;
 
@@ -149,49 +163,69 @@ class TrainingServiceTest {
     }
 
     @Test
-    @DisplayName("Should return list of trainings when getTraineeTrainingList")
+    @DisplayName("Should return last page without cursor when getTraineeTrainingList")
     void shouldReturnTrainingListWhenGetTraineeTrainingList() {
-        List<Training> expectedTrainingList = Collections.singletonList(trainingUnderTest);
-        when(trainingRepository.findByTraineeUserUsernameAndTrainingDateBetweenAndTrainerUserUsernameAndTrainingTypeTrainingTypeName(anyString(), any(), any(), anyString(), anyString())).thenReturn(expectedTrainingList);
+        List<TrainingHistoryDTO> expectedTrainingList = TrainingDummyDataFactory.getTrainingHistory();
+        when(trainingRepository.findTraineeTrainingHistory(anyString(), any(), any(), anyString(), any(), any(),
+                anyLong(), any())).thenReturn(expectedTrainingList);
 
-        List<Training> result = trainingService.getTraineeTrainingList(
+        CursorPageDTO<TrainingHistoryDTO> result = trainingService.getTraineeTrainingList(
                 trainingUnderTest.getTrainee().getUsername(),
                 new Date(),
                 new Date(),
                 trainingUnderTest.getTrainer().getUsername(),
-                trainingUnderTest.getTrainingType().getTrainingTypeName().name()
+                trainingUnderTest.getTrainingType().getTrainingTypeName(),
+                null,
+                null
         );
 
-        verify(trainingRepository).findByTraineeUserUsernameAndTrainingDateBetweenAndTrainerUserUsernameAndTrainingTypeTrainingTypeName(anyString(), any(), any(), anyString(), anyString());
-        assertEquals(expectedTrainingList, result);
+        verify(trainingRepository).findTraineeTrainingHistory(anyString(), any(), any(), anyString(), any(), any(),
+                anyLong(), eq(Limit.of(DEFAULT_PAGE_SIZE + 1)));
+        assertEquals(expectedTrainingList, result.getContent());
+        assertNull(result.getNextCursor());
     }
 
     @Test
-    @DisplayName("Should return list of trainings when getTrainerTrainingList")
+    @DisplayName("Should return cursor after last row of a full page when getTrainerTrainingList")
     void shouldReturnTrainingListWhenGetTrainerTrainingList() {
-        List<Training> expectedTrainingList = Collections.singletonList(trainingUnderTest);
-        when(trainingRepository.findByTrainerUserUsernameAndTrainingDateBetweenAndTraineeUserUsername(anyString(), any(), any(), anyString())).thenReturn(expectedTrainingList);
+        List<TrainingHistoryDTO> trainingHistory = TrainingDummyDataFactory.getTrainingHistory();
+        when(trainingRepository.findTrainerTrainingHistory(anyString(), any(), any(), anyString(), any(), anyLong(),
+                any())).thenReturn(trainingHistory);
 
-        List<Training> result = trainingService.getTrainerTrainingList(
+        CursorPageDTO<TrainingHistoryDTO> result = trainingService.getTrainerTrainingList(
                 trainingUnderTest.getTrainer().getUsername(),
                 new Date(),
                 new Date(),
-                trainingUnderTest.getTrainee().getUsername()
+                trainingUnderTest.getTrainee().getUsername(),
+                null,
+                1
         );
 
-        verify(trainingRepository).findByTrainerUserUsernameAndTrainingDateBetweenAndTraineeUserUsername(anyString(), any(), any(), anyString());
-        assertEquals(expectedTrainingList, result);
+        verify(trainingRepository).findTrainerTrainingHistory(anyString(), any(), any(), anyString(), any(),
+                anyLong(), eq(Limit.of(2)));
+        assertEquals(trainingHistory.subList(0, 1), result.getContent());
+        TrainingCursor cursor = TrainingCursor.decode(result.getNextCursor());
+        assertEquals(trainingHistory.get(0).getId(), cursor.id());
+        assertEquals(trainingHistory.get(0).getTrainingDate(), cursor.trainingDate());
+    }
+
+    @Test
+    @DisplayName("Should throw InvalidCursorException for malformed cursor when getTrainerTrainingList")
+    void shouldThrowInvalidCursorExceptionForMalformedCursor() {
+        assertThrows(InvalidCursorException.class, () -> trainingService.getTrainerTrainingList(
+                trainingUnderTest.getTrainer().getUsername(), new Date(), new Date(), null, "not a cursor", null));
     }
 
     @Test
-    @DisplayName("Should return list of trainings when getAllTrainings")
+    @DisplayName("Should return page of trainings when getAllTrainings")
     void shouldReturnTrainingListWhenGetAllTrainings() {
-        List<Training> expectedTrainingList = Collections.singletonList(trainingUnderTest);
-        when(trainingRepository.findAll()).thenReturn(expectedTrainingList);
+        Pageable pageable = PageRequest.of(0, 20);
+        Page<Training> expectedTrainingList = new PageImpl<>(Collections.singletonList(trainingUnderTest), pageable, 1);
+        when(trainingRepository.findAll(pageable)).thenReturn(expectedTrainingList);
 
-        List<Training> result = trainingService.getAllTrainings();
+        Page<Training> result = trainingService.getAllTrainings(pageable);
 
-        verify(trainingRepository).findAll();
+        verify(trainingRepository).findAll(pageable);
         assertEquals(expectedTrainingList, result);
     }
 
@@ -0,0 +1,76 @@
+package org.example.utils.credentials;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PasswordPoolTest {
+
+    @Test
+    @DisplayName("Should generate alphanumeric passwords of the configured length")
+    void shouldGenerateAlphanumericPasswords() {
+        PasswordPool passwordPool = new PasswordPool(new SecureRandom(), 100);
+        passwordPool.refill();
+
+        for (int i = 0; i < 200; i++) {
+            String password = passwordPool.take();
+
+            assertEquals(PasswordPool.LENGTH, password.length());
+            assertTrue(password.chars().allMatch(c -> PasswordPool.CHARACTERS.indexOf(c) >= 0));
+        }
+    }
+
+    @Test
+    @DisplayName("Should fill the pool up to capacity and generate on the spot once it is drained")
+    void shouldRefillToCapacityAndFallBackWhenEmpty() {
+        PasswordPool passwordPool = new PasswordPool(new SecureRandom(), 5);
+
+        passwordPool.refill();
+        assertEquals(5, passwordPool.size());
+        passwordPool.refill();
+        assertEquals(5, passwordPool.size());
+
+        for (int i = 0; i < 7; i++) {
+            assertEquals(PasswordPool.LENGTH, passwordPool.take().length());
+        }
+        assertEquals(0, passwordPool.size());
+    }
+
+    @Test
+    @DisplayName("Should hand out each pooled password once to concurrent callers")
+    void shouldHandOutPooledPasswordsOnce() throws Exception {
+        PasswordPool passwordPool = new PasswordPool(new SecureRandom(), 1000);
+        passwordPool.refill();
+        Set<String> taken = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < 125; j++) {
+                        taken.add(passwordPool.take());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1000, taken.size());
+        assertEquals(0, passwordPool.size());
+    }
+}
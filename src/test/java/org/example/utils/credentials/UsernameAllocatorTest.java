@@ -0,0 +1,135 @@
+package org.example.utils.credentials;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.example.model.User;
+import org.example.repository.UserRepository;
+import org.example.utils.H2DataJpaTest;
+import org.example.utils.dummydata.UserDummyDataFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@H2DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class UsernameAllocatorTest {
+
+    private static final String BASE_USERNAME = "John.Doe";
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private CredentialsGenerator credentialsGenerator;
+
+    @BeforeEach
+    void setUp() {
+        credentialsGenerator = new CredentialsGenerator(new UsernameAllocator(jdbcTemplate, transactionManager, 100, 60),
+                new PasswordPool(new SecureRandom(), 0));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM username_counters");
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should continue after the highest existing suffix of a base seen for the first time")
+    void shouldSeedFromHighestExistingSuffix() {
+        userRepository.saveAll(List.of(UserDummyDataFactory.getUser("John", "Doe", "John.Doe"),
+                UserDummyDataFactory.getUser("John", "Doe", "John.Doe5"),
+                UserDummyDataFactory.getUser("John", "Doer", "John.Doer"),
+                UserDummyDataFactory.getUser("John", "Doe", "John.Doe.x")));
+        User johnDoe = UserDummyDataFactory.getUnregisteredUser("John", "Doe");
+
+        assertEquals("John.Doe6", credentialsGenerator.generateUsername(johnDoe));
+        assertEquals("John.Doe7", credentialsGenerator.generateUsername(johnDoe));
+        assertEquals("Jane.Doe", credentialsGenerator.generateUsername(
+                UserDummyDataFactory.getUnregisteredUser("Jane", "Doe")));
+    }
+
+    @Test
+    @DisplayName("Should number repeated names of a batch in list order")
+    void shouldNumberRepeatedNamesOfBatchInOrder() {
+        User johnDoe = UserDummyDataFactory.getUnregisteredUser("John", "Doe");
+        User janeDoe = UserDummyDataFactory.getUnregisteredUser("Jane", "Doe");
+
+        List<String> usernames = credentialsGenerator.generateUsernames(List.of(johnDoe, janeDoe, johnDoe, johnDoe));
+
+        assertEquals(List.of("John.Doe", "Jane.Doe", "John.Doe2", "John.Doe3"), usernames);
+        assertEquals("John.Doe4", credentialsGenerator.generateUsername(johnDoe));
+    }
+
+    @Test
+    @DisplayName("Should separate the index of a base ending in a digit so bases cannot collide")
+    void shouldSeparateIndexOfBaseEndingInDigit() {
+        userRepository.save(UserDummyDataFactory.getUser("A", "B1", "A.B1-3"));
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            users.add(UserDummyDataFactory.getUnregisteredUser("A", "B"));
+        }
+        users.add(UserDummyDataFactory.getUnregisteredUser("A", "B1"));
+        users.add(UserDummyDataFactory.getUnregisteredUser("A", "B12"));
+
+        List<String> usernames = credentialsGenerator.generateUsernames(users);
+
+        assertEquals("A.B12", usernames.get(11));
+        assertEquals("A.B1-4", usernames.get(12));
+        assertEquals("A.B12-1", usernames.get(13));
+        assertEquals(usernames.size(), new HashSet<>(usernames).size());
+    }
+
+    @Test
+    @DisplayName("Should never hand out the same username to concurrent registrations")
+    void shouldAllocateUniqueUsernamesConcurrently() throws Exception {
+        int threads = 8;
+        int allocationsPerThread = 25;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<List<String>>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                List<String> usernames = new ArrayList<>();
+                for (int i = 0; i < allocationsPerThread; i++) {
+                    usernames.add(credentialsGenerator.generateUsername(
+                            UserDummyDataFactory.getUnregisteredUser("John", "Doe")));
+                }
+                return usernames;
+            }));
+        }
+        start.countDown();
+        Set<String> usernames = new HashSet<>();
+        for (Future<List<String>> future : futures) {
+            usernames.addAll(future.get(30, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+
+        assertEquals(threads * allocationsPerThread, usernames.size());
+        assertEquals(threads * allocationsPerThread, (long) jdbcTemplate.queryForObject(
+                "SELECT allocated FROM username_counters WHERE base_username = ?", Long.class, BASE_USERNAME));
+    }
+}
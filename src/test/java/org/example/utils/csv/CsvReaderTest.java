@@ -0,0 +1,37 @@
+package org.example.utils.csv;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.Map;
+
+import org.example.exception.validation.InvalidBulkRequestException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CsvReaderTest {
+
+    @Test
+    @DisplayName("Should map fields to header columns and unquote quoted fields")
+    void shouldReadQuotedFields() {
+        List<Map<String, String>> rows = CsvReader.read("firstName,lastName,address\r\n"
+                + "John,Doe,\"Main St 1, \"\"Belgrade\"\"\"\r\n"
+                + "\n"
+                + "Jane,Doe,\n");
+
+        assertEquals(2, rows.size());
+        assertEquals("Main St 1, \"Belgrade\"", rows.get(0).get("address"));
+        assertEquals("Jane", rows.get(1).get("firstName"));
+        assertNull(rows.get(1).get("address"));
+    }
+
+    @Test
+    @DisplayName("Should throw InvalidBulkRequestException for malformed CSV")
+    void shouldThrowInvalidBulkRequestExceptionForMalformedCsv() {
+        assertThrows(InvalidBulkRequestException.class, () -> CsvReader.read(""));
+        assertThrows(InvalidBulkRequestException.class, () -> CsvReader.read("firstName\n\"John"));
+        assertThrows(InvalidBulkRequestException.class, () -> CsvReader.read("firstName\nJohn,Doe"));
+    }
+}
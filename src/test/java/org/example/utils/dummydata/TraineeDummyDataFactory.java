@@ -5,6 +5,7 @@ import java.util.Date;
 import java.util.List;
 
 import org.example.model.Trainee;
+import org.example.model.User;
 
 public class TraineeDummyDataFactory {
 
@@ -47,6 +48,16 @@ public class TraineeDummyDataFactory {
                 .build();
     }
 
+    public static Trainee getTrainee(User user) {
+        return Trainee.builder()
+                .user(user)
+                .address(DEFAULT_ADDRESS)
+                .dateOfBirth(DATE_OF_BIRTH)
+                .trainerList(new ArrayList<>())
+                .trainingList(new ArrayList<>())
+                .build();
+    }
+
     public static Trainee getSimpleTraineeWithUser() {
         return Trainee.builder()
                 .user(UserDummyDataFactory.getUserJohnDoe())
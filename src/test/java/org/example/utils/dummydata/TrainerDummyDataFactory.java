@@ -5,6 +5,8 @@ import java.util.Date;
 import java.util.List;
 
 import org.example.model.Trainer;
+import org.example.model.TrainingType;
+import org.example.model.User;
 
 public class TrainerDummyDataFactory {
 
@@ -47,6 +49,15 @@ public class TrainerDummyDataFactory {
         return getTrainers();
     }
 
+    public static Trainer getTrainer(User user, TrainingType specialization) {
+        return Trainer.builder()
+                .user(user)
+                .specialization(specialization)
+                .traineeList(new ArrayList<>())
+                .trainingList(new ArrayList<>())
+                .build();
+    }
+
     public static Trainer getSimpleTrainerWithUser() {
         return Trainer.builder()
                 .user(UserDummyDataFactory.getUserPeterPeterson())
@@ -4,7 +4,12 @@ import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 
+import org.example.dto.training.TrainingHistoryDTO;
+import org.example.enums.TrainingTypeName;
+import org.example.model.Trainee;
+import org.example.model.Trainer;
 import org.example.model.Training;
+import org.example.model.TrainingType;
 
 public class TrainingDummyDataFactory {
 
@@ -24,6 +29,18 @@ public class TrainingDummyDataFactory {
                 .build();
     }
 
+    public static Training getTraining(Trainee trainee, Trainer trainer, TrainingType trainingType,
+                                       Date trainingDate) {
+        return Training.builder()
+                .trainee(trainee)
+                .trainer(trainer)
+                .trainingName(trainingType.getTrainingTypeName().name())
+                .trainingType(trainingType)
+                .trainingDate(trainingDate)
+                .trainingDuration(DEFAULT_TRAINING_DURATION)
+                .build();
+    }
+
     public static List<Training> getTrainingsForTrainerUnderTest() {
         return getTrainings();
     }
@@ -36,6 +53,14 @@ public class TrainingDummyDataFactory {
         return getTrainings();
     }
 
+    public static List<TrainingHistoryDTO> getTrainingHistory() {
+        return List.of(
+                new TrainingHistoryDTO(1L, TrainingTypeName.AEROBIC.name(), DEFAULT_TRAINING_DATE,
+                        TrainingTypeName.AEROBIC, DEFAULT_TRAINING_DURATION, "Peter", "Peterson"),
+                new TrainingHistoryDTO(2L, TrainingTypeName.STRENGTH.name(), DEFAULT_TRAINING_DATE,
+                        TrainingTypeName.STRENGTH, DEFAULT_TRAINING_DURATION, "Peter", "Peterson"));
+    }
+
     private static ArrayList<Training> getTrainings() {
         Training training1 = Training.builder()
                 .trainee(TraineeDummyDataFactory.getSimpleTraineeWithUser())
@@ -23,6 +23,13 @@ public class TrainingTypeDummyDataFactory {
                 .build();
     }
 
+    public static TrainingType getTrainingType(TrainingTypeName trainingTypeName) {
+        return TrainingType.builder()
+                .trainingTypeName(trainingTypeName)
+                .trainerList(new ArrayList<>())
+                .build();
+    }
+
     public static List<TrainingType> getTrainingTypes() {
         TrainingType aerobic = getTrainingTypeAerobic();
         TrainingType strength = getTrainingTypeStrength();
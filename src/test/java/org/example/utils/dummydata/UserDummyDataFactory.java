@@ -22,6 +22,18 @@ public class UserDummyDataFactory {
         return createUser("Peter", "Peterson", "Peter.Peterson");
     }
 
+    public static User getUser(String firstName, String lastName) {
+        return createUser(firstName, lastName, firstName + "." + lastName);
+    }
+
+    public static User getUser(String firstName, String lastName, String username) {
+        return createUser(firstName, lastName, username);
+    }
+
+    public static User getUnregisteredUser(String firstName, String lastName) {
+        return createUser(firstName, lastName, null);
+    }
+
     private static User createUser(String firstName, String lastName, String username) {
         return User.builder()
                 .isActive(DEFAULT_ACTIVE_STATUS)
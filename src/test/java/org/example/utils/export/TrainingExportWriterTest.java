@@ -0,0 +1,101 @@
+package org.example.utils.export;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+
+import org.example.dto.training.TrainingExportDTO;
+import org.example.enums.ExportFormat;
+import org.example.enums.TrainingTypeName;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class TrainingExportWriterTest {
+
+    private static final Date TRAINING_DATE = new Date(1_700_000_000_000L);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("Should write one JSON object per line")
+    void shouldWriteNdjson() throws Exception {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (TrainingExportWriter writer = new TrainingExportWriter(outputStream, ExportFormat.NDJSON, objectMapper)) {
+            writer.write(row(1, "Joe.Johnson"));
+            writer.write(row(2, "Peter.Peterson"));
+        }
+
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        JsonNode second = objectMapper.readTree(lines[1]);
+        assertEquals(2, second.get("id").asLong());
+        assertEquals("Peter.Peterson", second.get("trainerUsername").asText());
+        assertEquals("STRENGTH", second.get("trainingType").asText());
+    }
+
+    @Test
+    @DisplayName("Should write CSV with header and quote fields containing separators")
+    void shouldWriteCsv() throws Exception {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (TrainingExportWriter writer = new TrainingExportWriter(outputStream, ExportFormat.CSV, objectMapper)) {
+            writer.write(row(1, "Joe.Johnson"));
+            writer.write(row(2, "Peter \"Pete\", Peterson"));
+        }
+
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(3, lines.length);
+        assertTrue(lines[0].startsWith("id,trainingDate,"));
+        assertEquals("1,2023-11-14T22:13:20Z,Morning run,STRENGTH,30,Joe.Johnson,John.Doe", lines[1]);
+        assertEquals("2,2023-11-14T22:13:20Z,Morning run,STRENGTH,30,\"Peter \"\"Pete\"\", Peterson\",John.Doe",
+                lines[2]);
+    }
+
+    @Test
+    @DisplayName("Should flush first row before the writer is closed")
+    void shouldFlushFirstRowImmediately() throws Exception {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        TrainingExportWriter writer = new TrainingExportWriter(outputStream, ExportFormat.NDJSON, objectMapper);
+
+        writer.write(row(1, "Joe.Johnson"));
+
+        assertTrue(outputStream.size() > 0);
+        writer.close();
+    }
+
+    @Test
+    @DisplayName("Should flush the response stream only after the first row and every thousand rows")
+    void shouldFlushInBatches() throws Exception {
+        for (ExportFormat format : ExportFormat.values()) {
+            FlushCountingOutputStream outputStream = new FlushCountingOutputStream();
+            TrainingExportWriter writer = new TrainingExportWriter(outputStream, format, objectMapper);
+
+            for (int i = 1; i <= 2_500; i++) {
+                writer.write(row(i, "Joe.Johnson"));
+            }
+
+            assertEquals(3, outputStream.flushes, format.name());
+            writer.close();
+        }
+    }
+
+    private TrainingExportDTO row(long id, String trainerUsername) {
+        return new TrainingExportDTO(id, TRAINING_DATE, "Morning run", TrainingTypeName.STRENGTH, 30,
+                trainerUsername, "John.Doe");
+    }
+
+    private static final class FlushCountingOutputStream extends ByteArrayOutputStream {
+
+        private int flushes;
+
+        @Override
+        public void flush() {
+            flushes++;
+        }
+    }
+}
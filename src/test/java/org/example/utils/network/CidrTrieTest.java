@@ -0,0 +1,70 @@
+package org.example.utils.network;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.net.InetAddress;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.google.common.net.InetAddresses;
+
+class CidrTrieTest {
+
+    @Test
+    @DisplayName("Should return the most specific matching range")
+    void shouldReturnMostSpecificMatch() {
+        CidrTrie<String> trie = new CidrTrie<>();
+        trie.put("10.0.0.0/8", "wide");
+        trie.put("10.1.2.0/24", "narrow");
+        trie.put("10.1.2.3", "host");
+        trie.put("10.1.0.0/16", "middle");
+
+        assertEquals("host", trie.longestMatch(address("10.1.2.3")));
+        assertEquals("narrow", trie.longestMatch(address("10.1.2.4")));
+        assertEquals("middle", trie.longestMatch(address("10.1.3.1")));
+        assertEquals("wide", trie.longestMatch(address("10.200.0.1")));
+        assertNull(trie.longestMatch(address("11.0.0.1")));
+        assertEquals(4, trie.size());
+    }
+
+    @Test
+    @DisplayName("Should keep IPv4 and IPv6 ranges apart")
+    void shouldKeepAddressFamiliesApart() {
+        CidrTrie<String> trie = new CidrTrie<>();
+        trie.put("0.0.0.0/0", "any-ipv4");
+        trie.put("2001:db8::/32", "documentation");
+        trie.put("2001:db8:abcd::/48", "site");
+
+        assertEquals("any-ipv4", trie.longestMatch(address("192.0.2.1")));
+        assertEquals("site", trie.longestMatch(address("2001:db8:abcd:1::1")));
+        assertEquals("documentation", trie.longestMatch(address("2001:db8:1::1")));
+        assertNull(trie.longestMatch(address("2001:db9::1")));
+    }
+
+    @Test
+    @DisplayName("Should ignore host bits beyond the prefix length")
+    void shouldIgnoreHostBits() {
+        CidrTrie<String> trie = new CidrTrie<>();
+        trie.put("192.168.1.77/23", "subnet");
+
+        assertEquals("subnet", trie.longestMatch(address("192.168.0.1")));
+        assertEquals("subnet", trie.longestMatch(address("192.168.1.255")));
+        assertNull(trie.longestMatch(address("192.168.2.0")));
+    }
+
+    @Test
+    @DisplayName("Should reject invalid ranges")
+    void shouldRejectInvalidRanges() {
+        CidrTrie<String> trie = new CidrTrie<>();
+
+        assertThrows(IllegalArgumentException.class, () -> trie.put("10.0.0.0/33", "invalid"));
+        assertThrows(IllegalArgumentException.class, () -> trie.put("example.com/8", "invalid"));
+    }
+
+    private static InetAddress address(String value) {
+        return InetAddresses.forString(value);
+    }
+}
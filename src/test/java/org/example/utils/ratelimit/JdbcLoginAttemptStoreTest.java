@@ -0,0 +1,119 @@
+package org.example.utils.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+class JdbcLoginAttemptStoreTest {
+
+    private static final long WINDOW_MILLIS = 10_000;
+    private static final long NOW = 1_700_000_000_000L;
+    private static final int MAX_PENDING_ROWS = 1000;
+    private static final String KEY = "ip:10.0.0.1";
+    private static final String CREATE_TABLE_SQL = "CREATE TABLE login_attempts (attempt_key VARCHAR(255) NOT NULL, "
+            + "bucket BIGINT NOT NULL, attempts BIGINT NOT NULL, PRIMARY KEY (attempt_key, bucket))";
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MariaDB;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute(CREATE_TABLE_SQL);
+    }
+
+    @Test
+    @DisplayName("Should share counts between nodes once buffered increments are flushed")
+    void shouldShareCountsBetweenNodes() {
+        JdbcLoginAttemptStore firstNode = new JdbcLoginAttemptStore(jdbcTemplate, WINDOW_MILLIS, 0, 2,
+                MAX_PENDING_ROWS);
+        JdbcLoginAttemptStore secondNode = new JdbcLoginAttemptStore(jdbcTemplate, WINDOW_MILLIS, 0, 2,
+                MAX_PENDING_ROWS);
+
+        firstNode.increment(KEY, NOW);
+        firstNode.increment(KEY, NOW);
+        secondNode.increment(KEY, NOW + 1_000);
+        assertEquals(2, firstNode.count(KEY, NOW + 1_000).getAsLong());
+        assertEquals(1, secondNode.count(KEY, NOW + 1_000).getAsLong());
+
+        firstNode.flush();
+        secondNode.flush();
+        firstNode.increment(KEY, NOW + 1_000);
+        firstNode.flush();
+
+        assertEquals(4, firstNode.count(KEY, NOW + 1_000).getAsLong());
+        assertEquals(4, secondNode.count(KEY, NOW + 1_000).getAsLong());
+        assertEquals(2, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM login_attempts", Long.class));
+    }
+
+    @Test
+    @DisplayName("Should drop attempts older than the window")
+    void shouldDropAttemptsOlderThanWindow() {
+        JdbcLoginAttemptStore store = new JdbcLoginAttemptStore(jdbcTemplate, WINDOW_MILLIS, 0, 100,
+                MAX_PENDING_ROWS);
+        store.increment(KEY, NOW);
+        store.flush();
+
+        assertEquals(1, store.count(KEY, NOW + WINDOW_MILLIS - 1_000).getAsLong());
+        assertEquals(0, store.count(KEY, NOW + WINDOW_MILLIS).getAsLong());
+
+        store.purgeExpired(NOW + WINDOW_MILLIS);
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM login_attempts", Long.class));
+    }
+
+    @Test
+    @DisplayName("Should store keys longer than the column as a digest")
+    void shouldStoreLongKeysAsDigest() {
+        JdbcLoginAttemptStore store = new JdbcLoginAttemptStore(jdbcTemplate, WINDOW_MILLIS, 0, 100,
+                MAX_PENDING_ROWS);
+        String longKey = "user:" + "x".repeat(1_000);
+        store.increment(longKey, NOW);
+        store.flush();
+
+        assertEquals(1, store.count(longKey, NOW).getAsLong());
+    }
+
+    @Test
+    @DisplayName("Should keep buffered attempts counted until a failed flush succeeds")
+    void shouldKeepBufferedAttemptsUntilFlushSucceeds() {
+        JdbcLoginAttemptStore store = new JdbcLoginAttemptStore(jdbcTemplate, WINDOW_MILLIS, 0, 100,
+                MAX_PENDING_ROWS);
+        store.increment(KEY, NOW);
+        store.increment(KEY, NOW);
+        jdbcTemplate.execute("DROP TABLE login_attempts");
+
+        store.flush();
+        assertEquals(2, store.count(KEY, NOW).getAsLong());
+
+        jdbcTemplate.execute(CREATE_TABLE_SQL);
+        store.increment(KEY, NOW);
+        store.flush();
+        assertEquals(3, store.count(KEY, NOW).getAsLong());
+        assertEquals(3, jdbcTemplate.queryForObject("SELECT attempts FROM login_attempts", Long.class));
+    }
+
+    @Test
+    @DisplayName("Should report keys as untracked once the buffer is full")
+    void shouldReportUntrackedWhenBufferIsFull() {
+        JdbcLoginAttemptStore store = new JdbcLoginAttemptStore(jdbcTemplate, WINDOW_MILLIS, 0, 100, 1);
+        store.increment(KEY, NOW);
+        store.increment(KEY, NOW);
+        assertEquals(2, store.count(KEY, NOW).getAsLong());
+
+        store.increment("ip:10.0.0.2", NOW);
+
+        assertTrue(store.count(KEY, NOW).isEmpty());
+        assertTrue(store.count(KEY, NOW + WINDOW_MILLIS - 1).isEmpty());
+
+        store.flush();
+        assertEquals(0, store.count(KEY, NOW + WINDOW_MILLIS).getAsLong());
+    }
+}
@@ -0,0 +1,92 @@
+package org.example.utils.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SlidingWindowCounterTest {
+
+    private static final long WINDOW_MILLIS = 10_000;
+    private static final int BUCKET_COUNT = 10;
+    private static final long NOW = 1_700_000_000_000L;
+
+    @Test
+    @DisplayName("Should count every increment under contention")
+    void shouldCountEveryIncrementUnderContention() throws Exception {
+        SlidingWindowCounter counter = new SlidingWindowCounter(WINDOW_MILLIS, BUCKET_COUNT);
+        int threads = 16;
+        int incrementsPerThread = 50_000;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < incrementsPerThread; i++) {
+                    counter.increment(NOW);
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertEquals((long) threads * incrementsPerThread, counter.count(NOW));
+    }
+
+    @Test
+    @DisplayName("Should count every increment while buckets roll over under contention")
+    void shouldCountEveryIncrementWhileBucketsRollOver() throws Exception {
+        SlidingWindowCounter counter = new SlidingWindowCounter(WINDOW_MILLIS, BUCKET_COUNT);
+        int threads = 8;
+        int incrementsPerThread = 5_000;
+        long bucketMillis = WINDOW_MILLIS / BUCKET_COUNT;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < incrementsPerThread; i++) {
+                    counter.increment(NOW + (i % (BUCKET_COUNT - 1)) * bucketMillis);
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertEquals((long) threads * incrementsPerThread, counter.count(NOW + (BUCKET_COUNT - 2) * bucketMillis));
+    }
+
+    @Test
+    @DisplayName("Should forget increments older than the window")
+    void shouldForgetIncrementsOlderThanWindow() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(WINDOW_MILLIS, BUCKET_COUNT);
+
+        counter.increment(NOW);
+        counter.increment(NOW + WINDOW_MILLIS / 2);
+
+        assertEquals(2, counter.count(NOW + WINDOW_MILLIS / 2));
+        assertEquals(1, counter.count(NOW + WINDOW_MILLIS));
+        assertTrue(counter.isIdle(NOW + 2 * WINDOW_MILLIS));
+    }
+}
@@ -0,0 +1,29 @@
+package org.example.utils.sketch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CountMinSketchTest {
+
+    @Test
+    @DisplayName("Should never undercount and stay within the error bound")
+    void shouldNeverUndercountAndStayWithinErrorBound() {
+        CountMinSketch sketch = new CountMinSketch(4, 2048);
+        int keys = 10_000;
+        for (int i = 0; i < keys; i++) {
+            sketch.add("10.0." + (i / 256) + "." + (i % 256));
+        }
+        for (int i = 0; i < 500; i++) {
+            sketch.add("192.168.0.1");
+        }
+
+        long estimate = sketch.estimate("192.168.0.1");
+        long errorBound = (long) Math.ceil(Math.E / 2048 * (keys + 500));
+        assertTrue(estimate >= 500);
+        assertTrue(estimate <= 500 + errorBound);
+        assertEquals(0, new CountMinSketch(4, 2048).estimate("192.168.0.1"));
+    }
+}
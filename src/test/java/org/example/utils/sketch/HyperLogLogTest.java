@@ -0,0 +1,34 @@
+package org.example.utils.sketch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class HyperLogLogTest {
+
+    @Test
+    @DisplayName("Should estimate distinct values within a few standard errors")
+    void shouldEstimateDistinctValues() {
+        HyperLogLog hyperLogLog = new HyperLogLog(8);
+        for (int repeat = 0; repeat < 3; repeat++) {
+            for (int i = 0; i < 5_000; i++) {
+                hyperLogLog.add("user." + i);
+            }
+        }
+
+        assertEquals(5_000, hyperLogLog.estimate(), 5_000 * 0.2);
+    }
+
+    @Test
+    @DisplayName("Should count small cardinalities almost exactly")
+    void shouldCountSmallCardinalities() {
+        HyperLogLog hyperLogLog = new HyperLogLog(8);
+        for (int i = 0; i < 10; i++) {
+            hyperLogLog.add("user." + i);
+            hyperLogLog.add("user." + i);
+        }
+
+        assertEquals(10, hyperLogLog.estimate(), 1);
+    }
+}